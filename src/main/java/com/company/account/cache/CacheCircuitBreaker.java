@@ -0,0 +1,171 @@
+package com.company.account.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for Valkey cache access
+ * - CLOSED: 정상. 연속 실패가 failure-threshold 에 도달하면 OPEN
+ * - OPEN: open-duration 동안 캐시를 우회 (Redis 호출 없이 곧바로 DB 조회)
+ * - HALF_OPEN: 한 요청만 probe 로 통과시켜 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 연결 실패/타임아웃 ({@link DataAccessException}) 만 실패로 집계한다.
+ * 직렬화 오류 등은 Valkey 가 응답한 것이므로 성공으로 본다.
+ */
+@Slf4j
+@Component
+public class CacheCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAt;
+
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private final Counter bypassed;
+
+    @Autowired
+    public CacheCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.cache.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this(meterRegistry, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    public CacheCircuitBreaker(MeterRegistry meterRegistry, int failureThreshold,
+                               Duration openDuration, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+
+        Gauge.builder("cache.circuit.state", state, s -> s.get().ordinal())
+            .description("Cache circuit breaker state (0=closed, 1=open, 2=half-open)")
+            .register(meterRegistry);
+        this.bypassed = Counter.builder("cache.circuit.bypassed")
+            .description("Cache operations skipped because the circuit was open")
+            .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 캐시 호출 허용 여부
+     * OPEN 상태에서 cool-down 이 지나면 HALF_OPEN 으로 전환하고 한 요청만 probe 로 허용
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        if (current == State.OPEN && clock.millis() - openedAt >= openDurationMillis) {
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+        if (state.get() == State.HALF_OPEN && probeInFlight.compareAndSet(false, true)) {
+            log.info("Cache circuit half-open. Probing Valkey");
+            return true;
+        }
+
+        bypassed.increment();
+        return false;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (probeInFlight.compareAndSet(true, false)) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    public void recordFailure(RuntimeException e) {
+        if (!(e instanceof DataAccessException)) {
+            recordSuccess();
+            return;
+        }
+
+        if (probeInFlight.compareAndSet(true, false)) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    /**
+     * 캐시 조회/저장을 breaker 로 보호하여 실행
+     * OPEN 상태이거나 실패하면 fallback 반환 (호출자는 DB 로 진행)
+     */
+    public <T> T call(String operation, Supplier<T> action, T fallback) {
+        if (!allowRequest()) {
+            return fallback;
+        }
+        try {
+            T result = action.get();
+            recordSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            log.warn("Cache operation failed: {}. Error: {}. Falling back.", operation, e.getMessage());
+            return fallback;
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        call(operation, () -> {
+            action.run();
+            return null;
+        }, null);
+    }
+
+    private void open(State from) {
+        if (state.get() != from) {
+            // 이미 OPEN 으로 전환됨 (cool-down 을 연장하지 않음)
+            return;
+        }
+        openedAt = clock.millis();
+        if (transition(from, State.OPEN)) {
+            log.warn("Cache circuit opened after {} consecutive failures. Bypassing cache for {} ms",
+                consecutiveFailures.get(), openDurationMillis);
+        }
+        consecutiveFailures.set(0);
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        Counter.builder("cache.circuit.transitions")
+            .description("Cache circuit breaker state transitions")
+            .tag("state", to.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        if (to == State.CLOSED) {
+            log.info("Cache circuit closed. Valkey recovered");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.account.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Primary-read marker for cache fills
+ * 캐시를 채우는 DB 읽기는 readOnly 트랜잭션이어도 replica 대신 primary 에서 읽는다.
+ * 무효화 (일괄 정지, 탈퇴 등) 직후 복제가 밀린 replica 에서 이전 행을 읽어 캐시에 넣으면
+ * 그 stale 값이 TTL 동안 제공되기 때문이다. MySQL replica 라우팅 ({@code ReadWriteRoutingDataSource}) 이 확인한다.
+ *
+ * 라우팅은 첫 쿼리 시점 (LazyConnectionDataSourceProxy) 에 결정되므로 캐시에 넣을 값을 읽는 호출만 감싸면 된다.
+ * 바깥 트랜잭션이 이미 replica 커넥션을 잡은 뒤라면 같은 커넥션을 계속 쓰므로, 트랜잭션의 첫 조회가 되도록 사용한다.
+ */
+public final class CacheFillReads {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private CacheFillReads() {
+    }
+
+    public static <T> T call(Supplier<T> loader) {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+        try {
+            return loader.get();
+        } finally {
+            if (depth == null) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+}
@@ -0,0 +1,236 @@
+package com.company.account.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/cachefootprint
+ * Valkey 키스페이스를 SCAN 으로 조금씩 훑으면서 키마다 MEMORY USAGE / PTTL 을 샘플링하여
+ * 네임스페이스별 키 수, 메모리 사용량, 크기 분포, TTL 분포를 보고한다.
+ *
+ * KEYS 명령은 사용하지 않고, SCAN 한 번에 scan-count 개씩 가져와 작은 배치 (최대 100개) 단위로
+ * 짧은 Lua 스크립트 하나로 측정하므로 Valkey 를 오래 점유하지 않는다.
+ * max-keys 까지만 샘플링하며, 전체 키 수 (DBSIZE) 대비 비율로 네임스페이스별 추정치를 함께 제공한다.
+ * ?maxKeys= 요청값과 설정값 모두 MAX_KEYS 로 제한한다. (ADMIN 전용 - SecurityConfig)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "cachefootprint")
+public class CacheFootprintEndpoint {
+
+    private static final int MEASURE_BATCH_SIZE = 100;
+
+    /**
+     * 1회 호출에서 샘플링할 수 있는 키 수 상한
+     */
+    private static final int MAX_KEYS = 50_000;
+
+    /**
+     * KEYS: 측정할 키들, 결과: 키마다 [MEMORY USAGE (bytes), PTTL (ms)]
+     */
+    private static final byte[] MEASURE_SCRIPT = """
+            local result = {}
+            for i, key in ipairs(KEYS) do
+              result[#result + 1] = redis.call('MEMORY', 'USAGE', key) or 0
+              result[#result + 1] = redis.call('PTTL', key)
+            end
+            return result
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 키 접두사 -> 네임스페이스 (더 구체적인 접두사 우선)
+     */
+    private static final Map<String, String> NAMESPACES = new LinkedHashMap<>();
+
+    static {
+        NAMESPACES.put("user:email:", "user:email");
+        NAMESPACES.put("user:missing:", "user:missing");
+        NAMESPACES.put("user:public:", "user:public");
+        NAMESPACES.put("user:http:", "user:http");
+        NAMESPACES.put("user:etag:", "user:etag");
+        NAMESPACES.put("user:", "user");
+        NAMESPACES.put("auth:refresh:", "auth:refresh");
+        NAMESPACES.put("auth:token:", "auth:token");
+    }
+
+    private static final long[] SIZE_BUCKETS = {128, 256, 512, 1024, 4096, 16384};
+    private static final String[] SIZE_LABELS = {"<=128B", "<=256B", "<=512B", "<=1KB", "<=4KB", "<=16KB", ">16KB"};
+
+    private static final long[] TTL_BUCKETS = {
+        Duration.ofMinutes(1).toMillis(), Duration.ofMinutes(5).toMillis(), Duration.ofMinutes(15).toMillis(),
+        Duration.ofHours(1).toMillis(), Duration.ofHours(6).toMillis(), Duration.ofDays(1).toMillis(),
+        Duration.ofDays(7).toMillis()};
+    private static final String[] TTL_LABELS = {"<1m", "<5m", "<15m", "<1h", "<6h", "<1d", "<7d", ">=7d"};
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int defaultMaxKeys;
+    private final int scanCount;
+
+    public CacheFootprintEndpoint(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${app.cache.footprint.max-keys:10000}") int defaultMaxKeys,
+            @Value("${app.cache.footprint.scan-count:500}") int scanCount) {
+        this.redisTemplate = redisTemplate;
+        this.defaultMaxKeys = defaultMaxKeys;
+        this.scanCount = scanCount;
+    }
+
+    @ReadOperation
+    public Map<String, Object> footprint(@Nullable Integer maxKeys) {
+        int limit = Math.min(maxKeys != null && maxKeys > 0 ? maxKeys : defaultMaxKeys, MAX_KEYS);
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, NamespaceStats> stats = new LinkedHashMap<>();
+        for (String namespace : NAMESPACES.values()) {
+            stats.put(namespace, new NamespaceStats());
+        }
+        stats.put("other", new NamespaceStats());
+
+        Long dbSize = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            sample(connection, limit, stats);
+            return connection.serverCommands().dbSize();
+        });
+
+        long sampled = stats.values().stream().mapToLong(s -> s.keys).sum();
+        double scale = dbSize != null && sampled > 0 ? (double) dbSize / sampled : 1.0;
+
+        Map<String, Object> namespaces = new LinkedHashMap<>();
+        stats.forEach((namespace, s) -> {
+            if (s.keys > 0) {
+                namespaces.put(namespace, s.toMap(scale));
+            }
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dbSize", dbSize);
+        result.put("sampledKeys", sampled);
+        result.put("maxKeys", limit);
+        result.put("complete", dbSize != null && sampled >= dbSize);
+        result.put("elapsedMillis", System.currentTimeMillis() - startedAt);
+        result.put("namespaces", namespaces);
+        return result;
+    }
+
+    private void sample(RedisConnection connection, int limit, Map<String, NamespaceStats> stats) {
+        ScanOptions options = ScanOptions.scanOptions().count(scanCount).build();
+        List<byte[]> batch = new ArrayList<>(MEASURE_BATCH_SIZE);
+        int scanned = 0;
+
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext() && scanned < limit) {
+                batch.add(cursor.next());
+                scanned++;
+                if (batch.size() == MEASURE_BATCH_SIZE) {
+                    measure(connection, batch, stats);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            measure(connection, batch, stats);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void measure(RedisConnection connection, List<byte[]> keys, Map<String, NamespaceStats> stats) {
+        List<Object> measured = connection.scriptingCommands().eval(
+            MEASURE_SCRIPT, ReturnType.MULTI, keys.size(), keys.toArray(new byte[0][]));
+        if (measured == null) {
+            return;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            long bytes = toLong(measured.get(i * 2));
+            long ttlMillis = toLong(measured.get(i * 2 + 1));
+            if (ttlMillis == -2) {
+                continue;  // SCAN 이후 만료/삭제된 키
+            }
+            String key = new String(keys.get(i), StandardCharsets.UTF_8);
+            stats.get(namespaceOf(key)).record(bytes, ttlMillis);
+        }
+    }
+
+    private static String namespaceOf(String key) {
+        for (Map.Entry<String, String> entry : NAMESPACES.entrySet()) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return "other";
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static int bucket(long value, long[] bounds) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value <= bounds[i]) {
+                return i;
+            }
+        }
+        return bounds.length;
+    }
+
+    private static class NamespaceStats {
+        private long keys;
+        private long totalBytes;
+        private long maxBytes;
+        private long noExpiry;
+        private final long[] sizeHistogram = new long[SIZE_LABELS.length];
+        private final long[] ttlHistogram = new long[TTL_LABELS.length];
+
+        void record(long bytes, long ttlMillis) {
+            keys++;
+            totalBytes += bytes;
+            maxBytes = Math.max(maxBytes, bytes);
+            sizeHistogram[bucket(bytes, SIZE_BUCKETS)]++;
+            if (ttlMillis < 0) {
+                noExpiry++;
+            } else {
+                ttlHistogram[bucket(ttlMillis, TTL_BUCKETS)]++;
+            }
+        }
+
+        Map<String, Object> toMap(double scale) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sampledKeys", keys);
+            map.put("estimatedKeys", Math.round(keys * scale));
+            map.put("sampledBytes", totalBytes);
+            map.put("estimatedBytes", Math.round(totalBytes * scale));
+            map.put("avgBytes", keys > 0 ? totalBytes / keys : 0);
+            map.put("maxBytes", maxBytes);
+            map.put("sizeHistogram", histogram(SIZE_LABELS, sizeHistogram));
+
+            Map<String, Long> ttl = histogram(TTL_LABELS, ttlHistogram);
+            ttl.put("noExpiry", noExpiry);
+            map.put("ttlHistogram", ttl);
+            return map;
+        }
+
+        private static Map<String, Long> histogram(String[] labels, long[] counts) {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < labels.length; i++) {
+                histogram.put(labels[i], counts[i]);
+            }
+            return histogram;
+        }
+    }
+}
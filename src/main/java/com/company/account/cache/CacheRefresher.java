@@ -0,0 +1,151 @@
+package com.company.account.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Background refresher for stale cache entries
+ * - 캐시별 로더 등록 (예: user -> userRepository.findById)
+ * - 같은 키에 대한 중복 갱신 방지
+ * - 갱신 실패 시 retry-backoff 동안 재시도하지 않고 stale 값을 계속 제공 (stale-if-error)
+ */
+@Slf4j
+@Component
+public class CacheRefresher {
+
+    private final Map<String, Function<Object, Object>> loaders = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final long retryBackoffMillis;
+    private final Executor executor;
+
+    @Autowired
+    public CacheRefresher(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.refresh.retry-backoff:10s}") Duration retryBackoff) {
+        this(meterRegistry, retryBackoff, createExecutor());
+    }
+
+    public CacheRefresher(MeterRegistry meterRegistry, Duration retryBackoff, Executor executor) {
+        this.meterRegistry = meterRegistry;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.executor = executor;
+    }
+
+    private static ExecutorService createExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(
+            2, 4, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1000),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 캐시 이름별 갱신 로더 등록
+     * 로더가 null을 반환하면 원본 데이터가 없는 것으로 보고 캐시에서 제거
+     */
+    public void register(String cacheName, Function<Object, Object> loader) {
+        loaders.put(cacheName, loader);
+        log.debug("Registered cache refresh loader for cache: {}", cacheName);
+    }
+
+    public boolean hasLoader(String cacheName) {
+        return loaders.containsKey(cacheName);
+    }
+
+    /**
+     * Stale 엔트리 제공 기록 후 필요 시 백그라운드 갱신 시작
+     *
+     * @param onLoaded 갱신된 값 (원본이 없으면 null) 을 캐시에 반영하는 콜백
+     */
+    public void onStaleServed(String cacheName, Object key, Consumer<Object> onLoaded) {
+        String refreshKey = cacheName + "::" + key;
+        Long lastFailure = failedAt.get(refreshKey);
+        boolean backingOff = lastFailure != null
+            && System.currentTimeMillis() - lastFailure < retryBackoffMillis;
+        if (lastFailure != null && !backingOff) {
+            failedAt.remove(refreshKey);
+        }
+
+        staleServedCounter(cacheName, backingOff ? "error" : "revalidate").increment();
+
+        Function<Object, Object> loader = loaders.get(cacheName);
+        if (loader == null || backingOff || !inFlight.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> refresh(cacheName, key, refreshKey, loader, onLoaded));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(refreshKey);
+            refreshCounter(cacheName, "rejected").increment();
+            log.warn("Cache refresh queue is full. Skipping refresh for cache: {}, key: {}", cacheName, key);
+        }
+    }
+
+    private void refresh(String cacheName, Object key, String refreshKey,
+                         Function<Object, Object> loader, Consumer<Object> onLoaded) {
+        try {
+            // 갱신 값은 캐시에 들어가므로 primary 에서 읽음
+            Object value = CacheFillReads.call(() -> loader.apply(key));
+            onLoaded.accept(value);
+            failedAt.remove(refreshKey);
+            refreshCounter(cacheName, "success").increment();
+            log.debug("Refreshed stale cache entry - cache: {}, key: {}", cacheName, key);
+        } catch (Exception e) {
+            // 갱신 실패: 기존 stale 값은 hard TTL까지 그대로 유지
+            failedAt.put(refreshKey, System.currentTimeMillis());
+            refreshCounter(cacheName, "failure").increment();
+            log.warn("Failed to refresh stale cache entry - cache: {}, key: {}. Error: {}. Stale value will be served.",
+                cacheName, key, e.getMessage());
+        } finally {
+            inFlight.remove(refreshKey);
+        }
+    }
+
+    private Counter staleServedCounter(String cacheName, String reason) {
+        return Counter.builder("cache.stale.served")
+            .description("Stale cache entries served to callers")
+            .tag("cache", cacheName)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private Counter refreshCounter(String cacheName, String result) {
+        return Counter.builder("cache.refresh")
+            .description("Background refreshes of stale cache entries")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.company.account.cache;
+
+import com.company.account.dto.UserResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-entry TTL policy
+ * - Jitter: 함께 기록된 엔트리 (배포/워밍업 직후) 가 동시에 만료되지 않도록 TTL 을 ±jitter-ratio 만큼 분산
+ * - Adaptive: 자주 읽히고 (직전 기록 이후 조회 수) 오래 변경되지 않은 (updatedAt) 엔트리는
+ *   기본 TTL 에서 최대 max-ttl 까지 늘림
+ *
+ * 조회 수는 인스턴스 로컬 통계이며 엔트리를 다시 기록할 때 초기화된다.
+ */
+@Slf4j
+@Component
+public class CacheTtlPolicy {
+
+    private static final Duration MIN_TTL = Duration.ofSeconds(1);
+
+    private final Map<String, AtomicInteger> readsSinceWrite = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final double jitterRatio;
+    private final Duration maxTtl;
+    private final int hotReads;
+    private final Duration stableAfter;
+    private final int maxTrackedKeys;
+    private final Clock clock;
+
+    @Autowired
+    public CacheTtlPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.ttl.jitter-ratio:0.1}") double jitterRatio,
+            @Value("${app.cache.ttl.adaptive.max-ttl:6h}") Duration maxTtl,
+            @Value("${app.cache.ttl.adaptive.hot-reads:20}") int hotReads,
+            @Value("${app.cache.ttl.adaptive.stable-after:24h}") Duration stableAfter,
+            @Value("${app.cache.ttl.adaptive.max-tracked-keys:50000}") int maxTrackedKeys) {
+        this(meterRegistry, jitterRatio, maxTtl, hotReads, stableAfter, maxTrackedKeys, Clock.systemDefaultZone());
+    }
+
+    public CacheTtlPolicy(MeterRegistry meterRegistry, double jitterRatio, Duration maxTtl, int hotReads,
+                          Duration stableAfter, int maxTrackedKeys, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.jitterRatio = jitterRatio;
+        this.maxTtl = maxTtl;
+        this.hotReads = hotReads;
+        this.stableAfter = stableAfter;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 히트 기록 (adaptive TTL 계산용)
+     */
+    public void recordRead(String cacheName, Object key) {
+        String statsKey = statsKey(cacheName, key);
+        AtomicInteger reads = readsSinceWrite.get(statsKey);
+        if (reads == null) {
+            if (readsSinceWrite.size() >= maxTrackedKeys) {
+                // 만료된 키가 쌓이지 않도록 상한 도달 시 통계 초기화
+                log.debug("Cache read stats reached {} keys. Resetting", maxTrackedKeys);
+                readsSinceWrite.clear();
+            }
+            reads = readsSinceWrite.computeIfAbsent(statsKey, k -> new AtomicInteger());
+        }
+        reads.incrementAndGet();
+    }
+
+    /**
+     * TTL 에 jitter 만 적용
+     */
+    public Duration jitter(Duration ttl) {
+        if (jitterRatio <= 0) {
+            return ttl;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        Duration jittered = Duration.ofMillis((long) (ttl.toMillis() * factor));
+        return jittered.compareTo(MIN_TTL) < 0 ? MIN_TTL : jittered;
+    }
+
+    /**
+     * 엔트리 기록 시점의 TTL 계산 (adaptive + jitter)
+     * ttl = baseTtl + (maxTtl - baseTtl) * popularity * stability
+     *
+     * @param value 저장되는 값 ({@link CachedValue} envelope 또는 원래 값)
+     */
+    public Duration adaptiveTtl(String cacheName, Object key, @Nullable Object value, Duration baseTtl) {
+        AtomicInteger reads = readsSinceWrite.remove(statsKey(cacheName, key));
+        double popularity = reads == null ? 0 : Math.min(1.0, (double) reads.get() / hotReads);
+        double stability = stability(value);
+
+        Duration ttl = baseTtl;
+        if (maxTtl.compareTo(baseTtl) > 0 && popularity > 0 && stability > 0) {
+            long extraMillis = (long) ((maxTtl.toMillis() - baseTtl.toMillis()) * popularity * stability);
+            ttl = baseTtl.plusMillis(extraMillis);
+        }
+
+        Duration jittered = jitter(ttl);
+        DistributionSummary.builder("cache.ttl.assigned")
+            .description("TTL assigned to cache entries on write")
+            .baseUnit("seconds")
+            .tag("cache", cacheName)
+            .register(meterRegistry)
+            .record(jittered.toSeconds());
+        return jittered;
+    }
+
+    /**
+     * 마지막 변경 (updatedAt) 이후 경과 시간 / stable-after (0 ~ 1)
+     */
+    private double stability(@Nullable Object value) {
+        Object unwrapped = value instanceof CachedValue cached ? cached.getValue() : value;
+        if (!(unwrapped instanceof UserResponse user) || user.getUpdatedAt() == null) {
+            return 0;
+        }
+        Duration age = Duration.between(user.getUpdatedAt(), LocalDateTime.now(clock));
+        if (age.isNegative()) {
+            return 0;
+        }
+        return Math.min(1.0, (double) age.toMillis() / stableAfter.toMillis());
+    }
+
+    private static String statsKey(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,207 @@
+package com.company.account.cache;
+
+import com.company.account.dto.RefreshTokenCache;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.security.JwtTokenProvider;
+import com.company.account.util.CacheKeyGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Startup cache warm-up
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로
+ * 이 단계가 끝날 때까지 readiness probe 는 ready 를 보고하지 않는다.
+ *
+ * 1. DB / Valkey 커넥션 미리 생성
+ * 2. 최근 로그인 (lastLoginAt) 한 활성 사용자를 페이지 단위로 조회하여 사용자 캐시와
+ *    Refresh Token 캐시를 파이프라인으로 일괄 적재
+ *
+ * 전체 작업은 time-budget 안에서만 수행하며, 초과하면 중단하고 바로 ready 로 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cache.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final UserCacheWriter userCacheWriter;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final ObjectProvider<HikariDataSource> connectionPools;
+
+    @Value("${app.cache.warm-up.time-budget:20s}")
+    private Duration timeBudget;
+
+    @Value("${app.cache.warm-up.lookback:7d}")
+    private Duration lookback;
+
+    @Value("${app.cache.warm-up.max-users:5000}")
+    private int maxUsers;
+
+    @Value("${app.cache.warm-up.db-connections:5}")
+    private int dbConnections;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + timeBudget.toMillis();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-warm-up-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+        try {
+            Future<Integer> warmUp = executor.submit(() -> warmUp(deadline));
+            int warmedUsers = warmUp.get(timeBudget.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Cache warm-up completed: {} users in {} ms", warmedUsers, System.currentTimeMillis() - startedAt);
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up exceeded time budget ({}). Continuing startup with partially warmed caches", timeBudget);
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed. Error: {}. Continuing startup with cold caches", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int warmUp(long deadline) {
+        warmUpDatabaseConnections();
+        warmUpValkeyConnection();
+
+        if (cacheCircuitBreaker.getState() != CacheCircuitBreaker.State.CLOSED) {
+            log.warn("Valkey unavailable. Skipping cache preload");
+            return 0;
+        }
+        return preloadRecentUsers(deadline);
+    }
+
+    /**
+     * 커넥션 풀이 첫 요청 때 커넥션을 만들지 않도록 동시에 여러 개를 빌렸다가 반환
+     * replica 라우팅을 쓰면 primary / replica 풀을 각각 워밍업
+     */
+    private void warmUpDatabaseConnections() {
+        connectionPools.orderedStream().forEach(this::warmUpDatabaseConnections);
+    }
+
+    private void warmUpDatabaseConnections(HikariDataSource pool) {
+        List<Connection> connections = new ArrayList<>(dbConnections);
+        try {
+            for (int i = 0; i < dbConnections; i++) {
+                Connection connection = pool.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+            log.debug("Pre-established {} database connections in pool {}", connections.size(), pool.getPoolName());
+        } catch (SQLException e) {
+            log.warn("Failed to pre-establish database connections in pool {}. Error: {}", pool.getPoolName(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Failed to release warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void warmUpValkeyConnection() {
+        cacheCircuitBreaker.run("warm-up ping", () -> {
+            String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            log.debug("Valkey connection established: {}", pong);
+        });
+    }
+
+    private int preloadRecentUsers(long deadline) {
+        LocalDateTime since = LocalDateTime.now().minus(lookback);
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "lastLoginAt"));
+        int warmed = 0;
+
+        while (warmed < maxUsers && System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+            PageRequest page = pageRequest;
+            Slice<User> slice = CacheFillReads.call(() ->
+                    userRepository.findByStatusAndLastLoginAtAfter(User.UserStatus.ACTIVE, since, page));
+
+            UserCacheWriter.Batch batch = userCacheWriter.batch();
+            for (User user : slice) {
+                batch.user(UserResponse.fromEntity(user));
+                addRefreshToken(batch, user);
+            }
+            batch.execute();
+            warmed += slice.getNumberOfElements();
+
+            if (!slice.hasNext()) {
+                break;
+            }
+            pageRequest = pageRequest.next();
+        }
+        return warmed;
+    }
+
+    /**
+     * 유효한 Refresh Token 이 있는 사용자는 토큰 만료 시각까지 캐시
+     */
+    private void addRefreshToken(UserCacheWriter.Batch batch, User user) {
+        String refreshToken = user.getRefreshToken();
+        if (refreshToken == null) {
+            return;
+        }
+
+        LocalDateTime expiredAt;
+        try {
+            expiredAt = LocalDateTime.ofInstant(
+                    jwtTokenProvider.getExpirationFromToken(refreshToken).toInstant(), ZoneId.systemDefault());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료/위조 토큰은 캐시하지 않음
+            return;
+        }
+        Duration ttl = Duration.between(LocalDateTime.now(), expiredAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        RefreshTokenCache tokenCache = RefreshTokenCache.builder()
+                .userId(user.getUserId())
+                .token(refreshToken)
+                .isValid(true)
+                .expiredAt(expiredAt)
+                .build();
+        batch.entry(cacheKeyGenerator.refreshTokenKey(user.getUserId()), tokenCache, ttl);
+    }
+}
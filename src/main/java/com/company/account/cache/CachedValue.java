@@ -0,0 +1,38 @@
+package com.company.account.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Cache envelope stored in Valkey
+ * Keeps the cached value together with its soft expiry (stale-while-revalidate).
+ * The hard expiry is the Redis key TTL itself.
+ * version is the source row version (updatedAt epoch millis) for write-through
+ * entries, 0 when unknown; a write with a lower version never replaces a higher one.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue implements Serializable {
+    private Object value;
+    private long cachedAt;
+    private long staleAt;
+    private long version;
+
+    public static CachedValue of(Object value, long now, long softTtlMillis) {
+        return new CachedValue(value, now, now + softTtlMillis, 0);
+    }
+
+    public static CachedValue versioned(Object value, long now, long softTtlMillis, long version) {
+        return new CachedValue(value, now, now + softTtlMillis, version);
+    }
+
+    public boolean isStaleAt(long now) {
+        return now >= staleAt;
+    }
+}
@@ -0,0 +1,123 @@
+package com.company.account.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaking cache decorator
+ * - 회로가 열려 있으면 Redis 호출 없이 캐시 미스로 처리 (조회) 하거나 무시 (저장/삭제)
+ * - Redis 오류는 breaker 에 기록한 뒤 그대로 던져 {@link ResilientCacheErrorHandler} 가 처리
+ */
+public class CircuitBreakingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingCache(Cache delegate, CacheCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return guard(() -> delegate.get(key), null);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return guard(() -> delegate.get(key, type), null);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!circuitBreaker.allowRequest()) {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        try {
+            T value = delegate.get(key, valueLoader);
+            circuitBreaker.recordSuccess();
+            return value;
+        } catch (ValueRetrievalException e) {
+            // 원본 로더 실패는 캐시 장애가 아님
+            circuitBreaker.recordSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        guard(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return guard(() -> delegate.putIfAbsent(key, value), null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        guard(() -> {
+            delegate.evict(key);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return guard(() -> delegate.evictIfPresent(key), false);
+    }
+
+    @Override
+    public void clear() {
+        guard(() -> {
+            delegate.clear();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        return guard(delegate::invalidate, false);
+    }
+
+    private <T> T guard(Supplier<T> operation, T bypassValue) {
+        if (!circuitBreaker.allowRequest()) {
+            return bypassValue;
+        }
+        try {
+            T result = operation.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+}
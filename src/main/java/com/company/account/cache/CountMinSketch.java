@@ -0,0 +1,74 @@
+package com.company.account.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch
+ * 고정 메모리 (depth x width 카운터) 로 키별 빈도를 과대 추정 방향으로 근사한다.
+ * 카운터는 원자적으로 증가하므로 락 없이 여러 스레드에서 호출할 수 있다.
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray[] counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth는 1~" + SEEDS.length + " 사이여야 합니다: " + depth);
+        }
+        if (width < 1) {
+            throw new IllegalArgumentException("width는 1 이상이어야 합니다: " + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray[depth];
+        for (int row = 0; row < depth; row++) {
+            counters[row] = new AtomicLongArray(width);
+        }
+    }
+
+    /**
+     * 빈도 1 증가 후 추정치 반환
+     */
+    public long add(Object key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            estimate = Math.min(estimate, counters[row].incrementAndGet(index));
+        }
+        return estimate;
+    }
+
+    public long estimate(Object key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row].get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 감쇠 (최근 트래픽 위주로 추정)
+     */
+    public void halve() {
+        for (AtomicLongArray row : counters) {
+            for (int i = 0; i < width; i++) {
+                row.getAndUpdate(i, count -> count >>> 1);
+            }
+        }
+    }
+
+    private int index(int hash, int row) {
+        long mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        mixed ^= mixed >>> 32;
+        return (int) Math.floorMod(mixed, (long) width);
+    }
+}
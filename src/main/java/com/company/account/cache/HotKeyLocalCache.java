@@ -0,0 +1,167 @@
+package com.company.account.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local (L1) tier for hot cache keys
+ * - {@link HotKeyTracker} 가 hot 으로 판단한 키의 값을 인스턴스 메모리에 고정 (pin)
+ * - pin 된 키는 Valkey 를 거치지 않고 로컬에서 응답 (단일 샤드 집중 완화)
+ * - refresh-interval 마다 원본 캐시에서 다시 읽어 갱신하고, 더 이상 hot 이 아니거나
+ *   원본 캐시에서 무효화된 키는 해제 (다른 인스턴스의 변경도 최대 refresh-interval 내 반영)
+ */
+@Slf4j
+@Component
+public class HotKeyLocalCache {
+
+    private record Pinned(String cacheName, Object key, Object value) {
+    }
+
+    private final Map<String, Cache> sources = new ConcurrentHashMap<>();
+    private final Map<String, Pinned> pinned = new ConcurrentHashMap<>();
+
+    private final HotKeyTracker hotKeyTracker;
+    private final int maxPinned;
+    private final Duration refreshInterval;
+    private final Counter localHits;
+    private ScheduledExecutorService scheduler;
+
+    public HotKeyLocalCache(
+            HotKeyTracker hotKeyTracker,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.hot-keys.top-k:20}") int maxPinned,
+            @Value("${app.cache.hot-keys.refresh-interval:5s}") Duration refreshInterval) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.maxPinned = maxPinned;
+        this.refreshInterval = refreshInterval;
+
+        Gauge.builder("cache.l1.pinned", pinned, Map::size)
+            .description("Hot cache keys pinned in the local tier")
+            .register(meterRegistry);
+        this.localHits = Counter.builder("cache.l1.hits")
+            .description("Cache reads served from pinned hot keys")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startRefresh() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hot-key-refresh-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long periodMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshPinned, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopRefresh() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시별 원본 (Valkey 쪽 데코레이터 체인) 등록
+     */
+    public void registerSource(Cache source) {
+        sources.put(source.getName(), source);
+    }
+
+    @Nullable
+    public Object getPinned(String cacheName, Object key) {
+        Pinned entry = pinned.get(id(cacheName, key));
+        if (entry == null) {
+            return null;
+        }
+        localHits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 원본 캐시 조회 결과 기록, hot 키이면 pin
+     */
+    public void onRead(String cacheName, Object key, @Nullable Object value) {
+        hotKeyTracker.record(cacheName, key);
+        if (value != null && pinned.size() < maxPinned && hotKeyTracker.isHot(cacheName, key)) {
+            if (pinned.putIfAbsent(id(cacheName, key), new Pinned(cacheName, key, value)) == null) {
+                log.info("Pinned hot cache key in local tier - cache: {}, key: {}", cacheName, key);
+            }
+        }
+    }
+
+    /**
+     * 이미 pin 된 키만 새 값으로 교체
+     */
+    public void onWrite(String cacheName, Object key, @Nullable Object value) {
+        String id = id(cacheName, key);
+        if (value == null) {
+            pinned.remove(id);
+        } else {
+            pinned.computeIfPresent(id, (k, entry) -> new Pinned(cacheName, key, value));
+        }
+    }
+
+    public void evict(String cacheName, Object key) {
+        pinned.remove(id(cacheName, key));
+    }
+
+    public void clear(String cacheName) {
+        pinned.values().removeIf(entry -> entry.cacheName().equals(cacheName));
+    }
+
+    public boolean isPinned(String cacheName, Object key) {
+        return pinned.containsKey(id(cacheName, key));
+    }
+
+    public List<HotKeyTracker.HotKey> topKeys() {
+        return hotKeyTracker.topKeys();
+    }
+
+    /**
+     * pin 된 키를 원본 캐시에서 다시 읽어 갱신 (proactive refresh)
+     */
+    void refreshPinned() {
+        for (Map.Entry<String, Pinned> entry : pinned.entrySet()) {
+            Pinned current = entry.getValue();
+            try {
+                if (!hotKeyTracker.isHot(current.cacheName(), current.key())) {
+                    pinned.remove(entry.getKey());
+                    log.debug("Unpinned cooled-down cache key - cache: {}, key: {}", current.cacheName(), current.key());
+                    continue;
+                }
+                Cache source = sources.get(current.cacheName());
+                Cache.ValueWrapper latest = source != null ? source.get(current.key()) : null;
+                if (latest == null || latest.get() == null) {
+                    // 원본에서 무효화됨: 다음 요청이 정상 경로로 다시 적재
+                    pinned.remove(entry.getKey());
+                } else {
+                    pinned.replace(entry.getKey(), current, new Pinned(current.cacheName(), current.key(), latest.get()));
+                }
+            } catch (Exception e) {
+                // 원본 조회 실패 시 기존 값을 다음 주기까지 유지
+                log.warn("Failed to refresh pinned cache key - cache: {}, key: {}. Error: {}",
+                    current.cacheName(), current.key(), e.getMessage());
+            }
+        }
+    }
+
+    private static String id(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+}
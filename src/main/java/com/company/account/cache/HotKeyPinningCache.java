@@ -0,0 +1,112 @@
+package com.company.account.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Hot key pinning cache decorator
+ * pin 된 hot 키는 {@link HotKeyLocalCache} 에서 바로 응답하고,
+ * 나머지는 원본 캐시를 조회하면서 조회 빈도를 기록한다.
+ */
+public class HotKeyPinningCache implements Cache {
+
+    private final Cache delegate;
+    private final HotKeyLocalCache localCache;
+
+    public HotKeyPinningCache(Cache delegate, HotKeyLocalCache localCache) {
+        this.delegate = delegate;
+        this.localCache = localCache;
+        localCache.registerSource(delegate);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        Object pinned = localCache.getPinned(getName(), key);
+        if (pinned != null) {
+            localCache.onRead(getName(), key, pinned);
+            return new SimpleValueWrapper(pinned);
+        }
+
+        ValueWrapper wrapper = delegate.get(key);
+        localCache.onRead(getName(), key, wrapper != null ? wrapper.get() : null);
+        return wrapper;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object pinned = localCache.getPinned(getName(), key);
+        if (pinned != null) {
+            localCache.onRead(getName(), key, pinned);
+            return (T) pinned;
+        }
+
+        T value = delegate.get(key, valueLoader);
+        localCache.onRead(getName(), key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+        localCache.onWrite(getName(), key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(getName(), key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        localCache.evict(getName(), key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear(getName());
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        localCache.clear(getName());
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,157 @@
+package com.company.account.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streaming top-K hot key tracker
+ * - Count-Min sketch 로 전체 키의 조회 빈도를 고정 메모리로 추정
+ * - 최소 힙으로 추정치 상위 K 개 키만 유지
+ * - decay-interval 마다 빈도를 절반으로 감쇠하여 최근 트래픽 기준으로 순위 유지
+ *
+ * 모든 캐시 조회가 record 를 호출하므로 조회 경로에서 대기하지 않는다.
+ * sketch 는 원자 카운터로 락 없이 갱신하고, 상위 K 힙은 진입 기준을 넘는 키만 tryLock 으로 갱신한다
+ * (다른 스레드가 갱신 중이면 이번 기록은 건너뛰고 다음 조회 때 반영).
+ */
+@Component
+public class HotKeyTracker {
+
+    public record HotKey(String cacheName, Object key, long count) {
+    }
+
+    private final CountMinSketch sketch;
+    private final ReentrantLock topKLock = new ReentrantLock();
+    // heap 과 topK 쓰기는 topKLock 보유 시에만, topK 읽기는 락 없이
+    private final PriorityQueue<HotKey> heap = new PriorityQueue<>(Comparator.comparingLong(HotKey::count));
+    private final Map<String, HotKey> topK = new ConcurrentHashMap<>();
+
+    private final int k;
+    private final long minReads;
+    private final long decayIntervalMillis;
+    private final Clock clock;
+    private final AtomicLong lastDecayAt;
+
+    /**
+     * 상위 K 가 찼을 때 힙 최솟값 (이하 추정치의 새 키는 락 없이 건너뜀), 차기 전에는 0
+     */
+    private volatile long admissionThreshold;
+
+    @Autowired
+    public HotKeyTracker(
+            @Value("${app.cache.hot-keys.top-k:20}") int k,
+            @Value("${app.cache.hot-keys.min-reads:50}") long minReads,
+            @Value("${app.cache.hot-keys.decay-interval:60s}") Duration decayInterval) {
+        this(k, minReads, decayInterval, Clock.systemUTC());
+    }
+
+    public HotKeyTracker(int k, long minReads, Duration decayInterval, Clock clock) {
+        this.sketch = new CountMinSketch(4, 2048);
+        this.k = k;
+        this.minReads = minReads;
+        this.decayIntervalMillis = decayInterval.toMillis();
+        this.clock = clock;
+        this.lastDecayAt = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * 조회 1건 기록
+     */
+    public void record(String cacheName, Object key) {
+        decayIfDue();
+
+        String id = id(cacheName, key);
+        long count = sketch.add(id);
+        if (count <= admissionThreshold && !topK.containsKey(id)) {
+            return;
+        }
+        if (!topKLock.tryLock()) {
+            return;
+        }
+        try {
+            HotKey updated = new HotKey(cacheName, key, count);
+            HotKey existing = topK.get(id);
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (topK.size() >= k) {
+                if (heap.isEmpty() || updated.count() <= heap.peek().count()) {
+                    return;
+                }
+                HotKey evicted = heap.poll();
+                topK.remove(id(evicted.cacheName(), evicted.key()));
+            }
+            heap.add(updated);
+            topK.put(id, updated);
+            updateAdmissionThreshold();
+        } finally {
+            topKLock.unlock();
+        }
+    }
+
+    /**
+     * 상위 K 에 있고 최소 조회 수 이상인 키
+     */
+    public boolean isHot(String cacheName, Object key) {
+        HotKey hotKey = topK.get(id(cacheName, key));
+        return hotKey != null && hotKey.count() >= minReads;
+    }
+
+    /**
+     * 조회 수 내림차순 상위 키 목록
+     */
+    public List<HotKey> topKeys() {
+        List<HotKey> keys = new ArrayList<>(topK.values());
+        keys.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return keys;
+    }
+
+    /**
+     * 감쇠 주기가 지났으면 한 스레드만 (CAS) 감쇠 수행
+     */
+    private void decayIfDue() {
+        long now = clock.millis();
+        long last = lastDecayAt.get();
+        if (now - last < decayIntervalMillis || !lastDecayAt.compareAndSet(last, now)) {
+            return;
+        }
+        sketch.halve();
+
+        topKLock.lock();
+        try {
+            List<HotKey> decayed = new ArrayList<>(heap.size());
+            for (HotKey hotKey : heap) {
+                decayed.add(new HotKey(hotKey.cacheName(), hotKey.key(), hotKey.count() >>> 1));
+            }
+            heap.clear();
+            topK.clear();
+            for (HotKey hotKey : decayed) {
+                if (hotKey.count() > 0) {
+                    heap.add(hotKey);
+                    topK.put(id(hotKey.cacheName(), hotKey.key()), hotKey);
+                }
+            }
+            updateAdmissionThreshold();
+        } finally {
+            topKLock.unlock();
+        }
+    }
+
+    private void updateAdmissionThreshold() {
+        admissionThreshold = topK.size() >= k && !heap.isEmpty() ? heap.peek().count() : 0L;
+    }
+
+    private static String id(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+}
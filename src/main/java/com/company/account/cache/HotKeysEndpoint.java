@@ -0,0 +1,56 @@
+package com.company.account.cache;
+
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/hotkeys
+ * 이 인스턴스에서 추적 중인 상위 hot 키 (최근 감쇠 구간 기준 조회 수 추정치) 와 L1 pin 여부
+ * 관리자 (ROLE_ADMIN) 만 조회 가능 (SecurityConfig). 이메일 키는 해시로만 노출한다.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private static final int KEY_HASH_LENGTH = 16;
+
+    private final HotKeyLocalCache hotKeyLocalCache;
+    private final CacheKeyGenerator cacheKeyGenerator;
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        List<Map<String, Object>> keys = hotKeyLocalCache.topKeys().stream()
+            .map(hotKey -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("cache", hotKey.cacheName());
+                entry.put("key", displayKey(hotKey.key()));
+                entry.put("estimatedReads", hotKey.count());
+                entry.put("pinned", hotKeyLocalCache.isPinned(hotKey.cacheName(), hotKey.key()));
+                return entry;
+            })
+            .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", keys.size());
+        result.put("keys", keys);
+        return result;
+    }
+
+    /**
+     * 사용자 ID (숫자) 는 그대로, 이메일 등 문자열 키는 SHA-256 앞부분만
+     */
+    private String displayKey(Object key) {
+        if (key instanceof Number) {
+            return key.toString();
+        }
+        return "sha256:" + cacheKeyGenerator.hashToken(String.valueOf(key)).substring(0, KEY_HASH_LENGTH);
+    }
+}
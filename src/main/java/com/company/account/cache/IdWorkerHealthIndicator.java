@@ -0,0 +1,23 @@
+package com.company.account.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Readiness check for ID generation (health contributor "idWorker")
+ * 유효한 worker id lease 가 없으면 ID 생성이 거부되므로 DOWN 을 보고하여 트래픽을 받지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdWorkerHealthIndicator implements HealthIndicator {
+
+    private final IdWorkerLease idWorkerLease;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = idWorkerLease.isLeased() ? Health.up() : Health.down();
+        return builder.withDetail("workerId", idWorkerLease.getWorkerId()).build();
+    }
+}
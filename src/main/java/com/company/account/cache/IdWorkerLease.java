@@ -0,0 +1,225 @@
+package com.company.account.cache;
+
+import com.company.account.util.CacheKeyGenerator;
+import com.company.account.util.SnowflakeIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker id assignment for {@link SnowflakeIdGenerator}
+ * - app.id.worker-id 가 0 이상이면 그 값을 고정으로 사용 (StatefulSet ordinal 등)
+ * - 아니면 Valkey 의 id:worker:{n} 키를 SET NX PX 로 선점 (lease) 하고 lease-ttl / 3 마다 연장
+ *
+ * 연장에 실패하면 (다른 인스턴스가 가져감) 새 worker id 를 다시 선점한다.
+ *
+ * lease 없이 만든 ID 는 다른 인스턴스와 중복될 수 있으므로 fail closed 로 동작한다.
+ * - 기동 시 Valkey 를 쓸 수 없으면 lease 를 얻을 때까지 ID 생성을 거부하고 (readiness DOWN) 연장 주기마다 재시도
+ * - Valkey 장애로 연장하지 못하면 마지막으로 확보한 lease 만료 시각까지만 생성하고 그 이후는 거부
+ * Valkey 없이 운영해야 하면 app.id.worker-id 로 인스턴스마다 다른 값을 지정한다.
+ */
+@Slf4j
+@Component
+public class IdWorkerLease {
+
+    /**
+     * KEYS[1] lease 키, ARGV[1] 보유자, ARGV[2] TTL (ms) - 자신이 보유한 lease 만 연장
+     */
+    private static final byte[] RENEW_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * lease 만료 시각 계산 시 인스턴스 / Valkey 간 시계 오차 여유
+     */
+    private static final long CLOCK_DRIFT_MILLIS = 1_000L;
+
+    /**
+     * KEYS[1] lease 키, ARGV[1] 보유자 - 자신이 보유한 lease 만 반납
+     */
+    private static final byte[] RELEASE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final int configuredWorkerId;
+    private final Duration leaseTtl;
+    private final byte[] owner;
+
+    private SnowflakeIdGenerator generator;
+    private volatile boolean leased;
+    private ScheduledExecutorService scheduler;
+
+    public IdWorkerLease(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            @Value("${app.id.worker-id:-1}") int configuredWorkerId,
+            @Value("${app.id.lease-ttl:60s}") Duration leaseTtl) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
+        this.configuredWorkerId = configuredWorkerId;
+        this.leaseTtl = leaseTtl;
+        this.owner = (hostname() + ":" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostConstruct
+    void start() {
+        if (configuredWorkerId >= 0) {
+            generator = new SnowflakeIdGenerator(configuredWorkerId);
+            SnowflakeIdGenerator.install(generator);
+            log.info("Using configured ID worker id: {}", configuredWorkerId);
+            return;
+        }
+
+        int preferred = ThreadLocalRandom.current().nextInt(SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+        long requestedAt = System.currentTimeMillis();
+        Integer workerId = acquire(preferred);
+        generator = new SnowflakeIdGenerator(workerId != null ? workerId : preferred);
+        if (workerId == null) {
+            generator.revoke();
+            log.warn("Could not lease an ID worker id from Valkey. ID generation is disabled until a lease is acquired "
+                    + "(set app.id.worker-id to run without Valkey)");
+        } else {
+            generator.extendUntil(leaseDeadline(requestedAt));
+            log.info("Leased ID worker id: {}", workerId);
+        }
+        SnowflakeIdGenerator.install(generator);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("id-worker-lease-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long periodMillis = Math.max(1000L, leaseTtl.toMillis() / 3);
+        scheduler.scheduleWithFixedDelay(this::renew, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        if (leased) {
+            byte[] key = rawKey(generator.getWorkerId());
+            cacheCircuitBreaker.run("release ID worker lease", () ->
+                    redisTemplate.execute((RedisCallback<Long>) connection ->
+                            connection.scriptingCommands().eval(RELEASE_SCRIPT, ReturnType.INTEGER, 1, key, owner)));
+        }
+    }
+
+    public int getWorkerId() {
+        return generator.getWorkerId();
+    }
+
+    /**
+     * 지금 ID 를 생성할 수 있는지 (고정 worker id 이거나 유효한 lease 보유)
+     */
+    public boolean isLeased() {
+        return generator != null && generator.isActive() && (leased || configuredWorkerId >= 0);
+    }
+
+    void renew() {
+        int workerId = generator.getWorkerId();
+        long requestedAt = System.currentTimeMillis();
+        if (leased) {
+            byte[] key = rawKey(workerId);
+            byte[] ttl = Long.toString(leaseTtl.toMillis()).getBytes(StandardCharsets.US_ASCII);
+            Long renewed = cacheCircuitBreaker.call("renew ID worker lease",
+                    () -> redisTemplate.execute((RedisCallback<Long>) connection ->
+                            connection.scriptingCommands().eval(RENEW_SCRIPT, ReturnType.INTEGER, 1, key, owner, ttl)),
+                    null);
+            if (renewed == null) {
+                // Valkey 장애 - 현재 lease 만료 시각까지만 생성 (그 전에 복구되면 그대로 연장)
+                log.warn("Could not renew ID worker lease {}. IDs will be refused once the current lease expires", workerId);
+                return;
+            }
+            if (renewed == 1L) {
+                generator.extendUntil(leaseDeadline(requestedAt));
+                return;
+            }
+            log.warn("Lost ID worker lease {}. Refusing ID generation until a new worker id is leased", workerId);
+            leased = false;
+            generator.revoke();
+        }
+
+        Integer acquired = acquire(workerId);
+        if (acquired != null) {
+            generator.reassign(acquired, leaseDeadline(requestedAt));
+            log.info("Leased ID worker id: {}", acquired);
+        }
+    }
+
+    /**
+     * 요청 전에 잰 시각 기준 만료 시각 (Valkey 의 실제 만료보다 늦지 않도록)
+     */
+    private long leaseDeadline(long requestedAt) {
+        return requestedAt + leaseTtl.toMillis() - CLOCK_DRIFT_MILLIS;
+    }
+
+    /**
+     * preferred 부터 순서대로 비어 있는 worker id 를 선점. 모두 사용 중이거나 Valkey 장애면 null
+     */
+    private Integer acquire(int preferred) {
+        int workers = SnowflakeIdGenerator.MAX_WORKER_ID + 1;
+        Expiration expiration = Expiration.milliseconds(leaseTtl.toMillis());
+        Integer workerId = cacheCircuitBreaker.call("lease ID worker id",
+                () -> redisTemplate.execute((RedisCallback<Integer>) connection -> {
+                    for (int i = 0; i < workers; i++) {
+                        int candidate = (preferred + i) % workers;
+                        Boolean acquired = connection.stringCommands()
+                                .set(rawKey(candidate), owner, expiration, SetOption.SET_IF_ABSENT);
+                        if (Boolean.TRUE.equals(acquired)) {
+                            return candidate;
+                        }
+                    }
+                    return null;
+                }),
+                null);
+        if (workerId == null) {
+            return null;
+        }
+        leased = true;
+        return workerId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(int workerId) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(cacheKeyGenerator.idWorkerKey(workerId));
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.account.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Negative cache for lookups that found nothing
+ * 존재하지 않는 사용자 ID/이메일 조회 결과를 짧은 TTL의 tombstone 으로 저장하여
+ * 반복 조회가 MySQL까지 내려가지 않도록 한다.
+ * Redis 오류 또는 회로 OPEN 시에는 tombstone 이 없는 것으로 간주 (DB 조회로 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NegativeLookupCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final RedisReadRouting redisReadRouting;
+
+    @Value("${app.cache.negative-ttl:60s}")
+    private Duration negativeTtl;
+
+    public boolean isMissing(String tombstoneKey) {
+        return cacheCircuitBreaker.call("read tombstone " + tombstoneKey,
+            () -> Boolean.TRUE.equals(redisReadRouting.readTemplate().hasKey(tombstoneKey)),
+            false);
+    }
+
+    public void markMissing(String tombstoneKey) {
+        ReadYourWrites.markWrite();
+        cacheCircuitBreaker.run("cache tombstone " + tombstoneKey, () -> {
+            Duration ttl = cacheTtlPolicy.jitter(negativeTtl);
+            redisTemplate.opsForValue().set(tombstoneKey, Boolean.TRUE, ttl);
+            log.debug("Cached not-found tombstone: {} (ttl: {})", tombstoneKey, ttl);
+        });
+    }
+}
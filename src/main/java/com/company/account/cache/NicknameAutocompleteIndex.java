@@ -0,0 +1,242 @@
+package com.company.account.cache;
+
+import com.company.account.dto.NicknameSuggestion;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Nickname prefix autocomplete index (Valkey sorted set)
+ * 활성 사용자 닉네임을 score 0 인 sorted set 에 "소문자 닉네임 \0 닉네임 \0 userId" 멤버로 저장하고
+ * ZRANGEBYLEX [prefix, prefix\xff] LIMIT 0 N 으로 사전순 상위 N 개를 조회한다 (O(log N + limit)).
+ *
+ * 닉네임 변경 / 정지 / 삭제 시 이전 멤버를 지우기 위해 userId -> 멤버 역참조 hash 를 함께 유지하며,
+ * 두 키는 스크립트 하나로 원자적으로 갱신한다. 쓰기는 커밋 후에 반영하고, Valkey 장애 시 건너뛴다
+ * (빈 색인은 다음 기동 시 DB 에서 재구성).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameAutocompleteIndex {
+
+    private static final byte SEPARATOR = 0x00;
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * KEYS[1] sorted set, KEYS[2] 역참조 hash, ARGV[1] userId, ARGV[2] 새 멤버 (빈 값이면 제거만)
+     */
+    private static final byte[] REPLACE_MEMBER_SCRIPT = """
+            local old = redis.call('HGET', KEYS[2], ARGV[1])
+            if old then
+              redis.call('ZREM', KEYS[1], old)
+            end
+            if ARGV[2] == '' then
+              redis.call('HDEL', KEYS[2], ARGV[1])
+            else
+              redis.call('ZADD', KEYS[1], 0, ARGV[2])
+              redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisReadRouting redisReadRouting;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final UserRepository userRepository;
+
+    @Value("${app.search.nickname.rebuild-page-size:1000}")
+    private int rebuildPageSize;
+
+    /**
+     * 사용자 상태에 맞춰 커밋 후 색인 반영 (활성 일반 사용자면 추가/변경, 아니면 제거)
+     */
+    public void syncAfterCommit(User user) {
+        Long userId = user.getUserId();
+        byte[] member = isIndexable(user) ? member(user.getNickname(), userId) : EMPTY;
+        afterCommit(() -> replace(userId, member));
+    }
+
+    /**
+     * 여러 사용자를 커밋 후 한 번의 파이프라인으로 반영 (일괄 가져오기)
+     */
+    public void syncAllAfterCommit(Collection<User> users) {
+        Map<Long, byte[]> members = new LinkedHashMap<>();
+        for (User user : users) {
+            members.put(user.getUserId(), isIndexable(user) ? member(user.getNickname(), user.getUserId()) : EMPTY);
+        }
+        replaceAllAfterCommit(members);
+    }
+
+    /**
+     * 일괄 상태 변경 (set-based UPDATE) 후 반영 - 엔티티 대신 변경 전 projection 과 새 상태로 판단
+     */
+    public void syncStatusAfterCommit(Collection<UserResponse> users, User.UserStatus status) {
+        Map<Long, byte[]> members = new LinkedHashMap<>();
+        for (UserResponse user : users) {
+            boolean indexable = status == User.UserStatus.ACTIVE
+                    && user.getRole() != User.UserRole.ADMIN
+                    && user.getNickname() != null
+                    && !user.getNickname().isBlank();
+            members.put(user.getUserId(), indexable ? member(user.getNickname(), user.getUserId()) : EMPTY);
+        }
+        replaceAllAfterCommit(members);
+    }
+
+    private void replaceAllAfterCommit(Map<Long, byte[]> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            ReadYourWrites.markWrite();
+            cacheCircuitBreaker.run("update nickname index for " + members.size() + " users", () ->
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        members.forEach((userId, member) -> eval(connection, userId, member));
+                        return null;
+                    }));
+        });
+    }
+
+    public void removeAfterCommit(Long userId) {
+        afterCommit(() -> replace(userId, EMPTY));
+    }
+
+    public List<NicknameSuggestion> suggest(String prefix, int limit) {
+        byte[] min = normalize(prefix).getBytes(StandardCharsets.UTF_8);
+        byte[] max = Arrays.copyOf(min, min.length + 1);
+        max[min.length] = (byte) 0xFF;  // UTF-8 에 나올 수 없는 바이트 - prefix 로 시작하는 모든 멤버 포함
+        byte[] key = rawKey(cacheKeyGenerator.nicknameIndexKey());
+
+        Set<byte[]> members = cacheCircuitBreaker.call("nickname autocomplete",
+                () -> redisReadRouting.readTemplate().execute((RedisCallback<Set<byte[]>>) connection ->
+                        connection.zSetCommands().zRangeByLex(key, Range.closed(min, max),
+                                Limit.limit().count(limit))),
+                null);
+        if (members == null) {
+            return List.of();
+        }
+
+        List<NicknameSuggestion> suggestions = new ArrayList<>(members.size());
+        for (byte[] member : members) {
+            String[] parts = new String(member, StandardCharsets.UTF_8).split(String.valueOf((char) SEPARATOR));
+            if (parts.length == 3) {
+                suggestions.add(new NicknameSuggestion(Long.valueOf(parts[2]), parts[1]));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * 색인이 비어 있으면 (최초 배포, Valkey 데이터 유실) 활성 사용자로 재구성
+     * 여러 인스턴스가 동시에 재구성해도 같은 멤버를 다시 쓰므로 결과는 같다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        Long size = cacheCircuitBreaker.call("nickname index size",
+                () -> redisTemplate.opsForZSet().zCard(cacheKeyGenerator.nicknameIndexKey()), null);
+        if (size == null || size > 0) {
+            return;
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, rebuildPageSize);
+        long afterId = 0L;
+        int indexed = 0;
+        Slice<User> slice;
+        do {
+            slice = userRepository.findByStatusAndRoleNotAndUserIdGreaterThanOrderByUserIdAsc(
+                    User.UserStatus.ACTIVE, User.UserRole.ADMIN, afterId, pageRequest);
+            List<User> users = slice.getContent().stream().filter(this::isIndexable).toList();
+            cacheCircuitBreaker.run("rebuild nickname index", () ->
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        users.forEach(user -> eval(connection, user.getUserId(), member(user.getNickname(), user.getUserId())));
+                        return null;
+                    }));
+            indexed += users.size();
+            if (slice.hasContent()) {
+                afterId = slice.getContent().get(slice.getNumberOfElements() - 1).getUserId();
+            }
+        } while (slice.hasNext() && cacheCircuitBreaker.getState() == CacheCircuitBreaker.State.CLOSED);
+
+        log.info("Rebuilt nickname autocomplete index with {} users", indexed);
+    }
+
+    private void replace(Long userId, byte[] member) {
+        ReadYourWrites.markWrite();
+        cacheCircuitBreaker.run("update nickname index " + userId, () ->
+                redisTemplate.execute((RedisCallback<Object>) connection -> eval(connection, userId, member)));
+    }
+
+    private Object eval(RedisConnection connection, Long userId, byte[] member) {
+        return connection.scriptingCommands().eval(REPLACE_MEMBER_SCRIPT, ReturnType.INTEGER, 2,
+                rawKey(cacheKeyGenerator.nicknameIndexKey()), rawKey(cacheKeyGenerator.nicknameMemberKey()),
+                String.valueOf(userId).getBytes(StandardCharsets.US_ASCII), member);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private boolean isIndexable(User user) {
+        return user.getStatus() == User.UserStatus.ACTIVE
+                && user.getRole() != User.UserRole.ADMIN
+                && user.getNickname() != null
+                && !user.getNickname().isBlank();
+    }
+
+    private static byte[] member(String nickname, Long userId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(normalize(nickname).getBytes(StandardCharsets.UTF_8));
+        out.write(SEPARATOR);
+        out.writeBytes(nickname.getBytes(StandardCharsets.UTF_8));
+        out.write(SEPARATOR);
+        out.writeBytes(String.valueOf(userId).getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+}
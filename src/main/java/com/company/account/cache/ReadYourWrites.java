@@ -0,0 +1,36 @@
+package com.company.account.cache;
+
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Read-your-writes marker for replica routing
+ * 현재 요청 (스레드) 에서 Valkey 에 쓰기/무효화를 한 적이 있으면 이후 읽기는 primary 로 보낸다.
+ * 복제 지연 때문에 방금 쓴 값 대신 replica 의 이전 값을 읽는 것을 막기 위함.
+ * DB 쓰기 트랜잭션 커밋도 표시하므로 MySQL replica 라우팅 ({@code PrimaryReadWindow}) 에도 같은 기준이 적용된다.
+ * 요청이 끝나면 {@link ReadYourWritesFilter} 가 초기화한다.
+ *
+ * 요청에 묶인 스레드에서만 표시한다. 캐시 갱신 풀, hot-key 스케줄러, 기동 warm-up 같은 백그라운드 스레드는
+ * 필터가 초기화하지 않으므로, 표시하면 그 스레드의 이후 읽기가 계속 primary 로 가게 된다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> WROTE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void markWrite() {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return;
+        }
+        WROTE.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(WROTE.get());
+    }
+
+    public static void clear() {
+        WROTE.remove();
+    }
+}
@@ -0,0 +1,120 @@
+package com.company.account.cache;
+
+import io.lettuce.core.ReadFrom;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Replica-preferred routing for Valkey reads
+ * app.cache.replica.host (ElastiCache reader endpoint) 가 설정되면 primary + reader 를 노드로 하는
+ * 별도 Lettuce 커넥션 팩토리 (ReadFrom.REPLICA_PREFERRED) 를 만들어 캐시/토큰 검증 읽기에 사용한다.
+ *
+ * - 쓰기, 무효화, 스크립트는 항상 기존 (primary) 커넥션 팩토리 사용
+ * - 같은 요청에서 쓰기를 한 뒤의 읽기는 {@link ReadYourWrites} 에 따라 primary 로 보냄
+ * - 설정이 없으면 모든 읽기가 primary 로 간다 (기존 동작)
+ *
+ * 두 번째 RedisConnectionFactory 를 빈으로 등록하면 Spring Boot 기본 팩토리가 생성되지 않으므로
+ * replica 팩토리는 이 컴포넌트가 직접 생성/종료한다.
+ */
+@Slf4j
+@Component
+public class RedisReadRouting {
+
+    private final ObjectProvider<RedisTemplate<String, Object>> primaryTemplate;
+    @Nullable
+    private final LettuceConnectionFactory replicaConnectionFactory;
+    private volatile RedisTemplate<String, Object> replicaTemplate;
+
+    public RedisReadRouting(
+            ObjectProvider<RedisTemplate<String, Object>> primaryTemplate,
+            RedisProperties redisProperties,
+            @Value("${app.cache.replica.host:}") String replicaHost,
+            @Value("${app.cache.replica.port:0}") int replicaPort) {
+        this.primaryTemplate = primaryTemplate;
+        this.replicaConnectionFactory = StringUtils.hasText(replicaHost)
+            ? createReplicaConnectionFactory(redisProperties, replicaHost,
+                replicaPort > 0 ? replicaPort : redisProperties.getPort())
+            : null;
+    }
+
+    private LettuceConnectionFactory createReplicaConnectionFactory(
+            RedisProperties redisProperties, String replicaHost, int replicaPort) {
+        RedisStaticMasterReplicaConfiguration configuration =
+            new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        configuration.addNode(replicaHost, replicaPort);
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            configuration.setPassword(redisProperties.getPassword());
+        }
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfiguration =
+            LettuceClientConfiguration.builder().readFrom(ReadFrom.REPLICA_PREFERRED);
+        if (redisProperties.getSsl().isEnabled()) {
+            clientConfiguration.useSsl();
+        }
+        if (redisProperties.getTimeout() != null) {
+            clientConfiguration.commandTimeout(redisProperties.getTimeout());
+        }
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration, clientConfiguration.build());
+        factory.afterPropertiesSet();
+        factory.start();
+        log.info("Valkey replica-preferred reads enabled - primary: {}:{}, reader: {}:{}",
+            redisProperties.getHost(), redisProperties.getPort(), replicaHost, replicaPort);
+        return factory;
+    }
+
+    /**
+     * 캐시 매니저의 읽기 전용 RedisCacheWriter 용 (replica 미설정 시 null)
+     */
+    @Nullable
+    public RedisConnectionFactory replicaConnectionFactory() {
+        return replicaConnectionFactory;
+    }
+
+    /**
+     * 읽기에 사용할 템플릿
+     * replica 미설정이거나 현재 요청에서 쓰기를 했으면 primary 템플릿
+     */
+    public RedisTemplate<String, Object> readTemplate() {
+        RedisTemplate<String, Object> primary = primaryTemplate.getObject();
+        if (replicaConnectionFactory == null || ReadYourWrites.isPrimaryRequired()) {
+            return primary;
+        }
+
+        RedisTemplate<String, Object> template = replicaTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = replicaTemplate;
+                if (template == null) {
+                    template = new RedisTemplate<>();
+                    template.setConnectionFactory(replicaConnectionFactory);
+                    template.setKeySerializer(primary.getKeySerializer());
+                    template.setHashKeySerializer(primary.getHashKeySerializer());
+                    template.setValueSerializer(primary.getValueSerializer());
+                    template.setHashValueSerializer(primary.getHashValueSerializer());
+                    template.afterPropertiesSet();
+                    replicaTemplate = template;
+                }
+            }
+        }
+        return template;
+    }
+
+    @PreDestroy
+    void close() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+        }
+    }
+}
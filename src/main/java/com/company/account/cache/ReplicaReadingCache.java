@@ -0,0 +1,99 @@
+package com.company.account.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Replica-preferred read cache decorator
+ * 조회는 replica 커넥션의 캐시로, 저장/삭제는 primary 캐시로 보낸다.
+ * 같은 요청에서 쓰기를 한 뒤에는 ({@link ReadYourWrites}) 조회도 primary 로 보낸다.
+ */
+public class ReplicaReadingCache implements Cache {
+
+    private final Cache primary;
+    private final Cache replica;
+
+    public ReplicaReadingCache(Cache primary, Cache replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    private Cache readCache() {
+        return ReadYourWrites.isPrimaryRequired() ? primary : replica;
+    }
+
+    @Override
+    public String getName() {
+        return primary.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return primary.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return readCache().get(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return readCache().get(key, type);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!ReadYourWrites.isPrimaryRequired()) {
+            ValueWrapper wrapper = replica.get(key);
+            if (wrapper != null) {
+                return (T) wrapper.get();
+            }
+        }
+        // 미스는 primary 에서 다시 확인 후 로드/저장
+        return primary.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        ReadYourWrites.markWrite();
+        primary.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ReadYourWrites.markWrite();
+        return primary.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        ReadYourWrites.markWrite();
+        primary.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        ReadYourWrites.markWrite();
+        return primary.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        ReadYourWrites.markWrite();
+        primary.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        ReadYourWrites.markWrite();
+        return primary.invalidate();
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.account.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache error handler for Valkey outages
+ * 캐시 오류는 로그만 남기고 무시하여 @Cacheable 메서드가 원본 (DB) 조회로 진행되도록 한다.
+ * - get 실패: 캐시 미스로 처리
+ * - put/evict/clear 실패: 무시 (무효화는 CacheInvalidationService 가 재시도)
+ * 실패 집계와 회로 차단은 {@link CircuitBreakingCache} 가 담당
+ */
+@Slf4j
+public class ResilientCacheErrorHandler implements CacheErrorHandler {
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache get failed - cache: {}, key: {}. Error: {}. Will query database.",
+            cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, @Nullable Object value) {
+        log.warn("Cache put failed - cache: {}, key: {}. Error: {}", cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache evict failed - cache: {}, key: {}. Error: {}", cache.getName(), key, exception.getMessage());
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        log.warn("Cache clear failed - cache: {}. Error: {}", cache.getName(), exception.getMessage());
+    }
+}
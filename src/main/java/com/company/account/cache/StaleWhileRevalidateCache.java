@@ -0,0 +1,180 @@
+package com.company.account.cache;
+
+import com.company.account.dto.UserResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Stale-while-revalidate cache decorator
+ * - soft TTL 이전: 그대로 제공
+ * - soft TTL ~ hard TTL (Redis 키 TTL): stale 값을 즉시 제공하고 백그라운드에서 갱신
+ * - 갱신 중 DB 오류: hard TTL까지 stale 값 계속 제공
+ *
+ * 값은 {@link CachedValue} 로 감싸서 저장하고, 조회 시에는 원래 값만 반환한다.
+ * soft TTL 에도 jitter 를 적용해 함께 기록된 엔트리의 백그라운드 갱신이 몰리지 않게 한다.
+ *
+ * envelope 에는 원본 버전 (updatedAt) 을 함께 담고, {@link VersionedWriter} 가 있으면
+ * 조회 채우기 / 백그라운드 갱신도 write-through 와 같은 버전 비교 기록을 사용한다.
+ * (늦게 끝난 DB 조회가 그 사이 기록된 더 최신 엔트리를 덮어쓰지 않음)
+ */
+public class StaleWhileRevalidateCache implements Cache {
+
+    /**
+     * 버전 비교 기록 - 캐시에 있는 엔트리의 버전이 더 크면 건너뛴다
+     */
+    @FunctionalInterface
+    public interface VersionedWriter {
+        void putIfNewer(String cacheName, Object key, CachedValue envelope);
+    }
+
+    private final Cache delegate;
+    private final CacheRefresher cacheRefresher;
+    private final Duration softTtl;
+    @Nullable
+    private final CacheTtlPolicy ttlPolicy;
+    @Nullable
+    private final VersionedWriter versionedWriter;
+
+    public StaleWhileRevalidateCache(Cache delegate, CacheRefresher cacheRefresher, Duration softTtl) {
+        this(delegate, cacheRefresher, softTtl, null, null);
+    }
+
+    public StaleWhileRevalidateCache(Cache delegate, CacheRefresher cacheRefresher, Duration softTtl,
+                                     @Nullable CacheTtlPolicy ttlPolicy, @Nullable VersionedWriter versionedWriter) {
+        this.delegate = delegate;
+        this.cacheRefresher = cacheRefresher;
+        this.softTtl = softTtl;
+        this.ttlPolicy = ttlPolicy;
+        this.versionedWriter = versionedWriter;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        if (ttlPolicy != null) {
+            ttlPolicy.recordRead(getName(), key);
+        }
+
+        Object stored = wrapper.get();
+        if (!(stored instanceof CachedValue cached)) {
+            // envelope 도입 이전에 저장된 엔트리는 hard TTL까지 fresh 로 취급
+            return wrapper;
+        }
+
+        if (cached.isStaleAt(System.currentTimeMillis())) {
+            cacheRefresher.onStaleServed(getName(), key, refreshed -> {
+                if (refreshed == null) {
+                    delegate.evict(key);
+                } else {
+                    store(key, refreshed);
+                }
+            });
+        }
+        return new SimpleValueWrapper(cached.getValue());
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            delegate.put(key, null);
+            return;
+        }
+        store(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value != null ? wrap(value) : null);
+        if (existing != null && existing.get() instanceof CachedValue cached) {
+            return new SimpleValueWrapper(cached.getValue());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void store(Object key, Object value) {
+        CachedValue envelope = wrap(value);
+        if (versionedWriter != null) {
+            versionedWriter.putIfNewer(getName(), key, envelope);
+        } else {
+            delegate.put(key, envelope);
+        }
+    }
+
+    private CachedValue wrap(Object value) {
+        Duration ttl = ttlPolicy != null ? ttlPolicy.jitter(softTtl) : softTtl;
+        long version = value instanceof UserResponse user ? UserCacheWriter.versionOf(user) : 0L;
+        return CachedValue.versioned(value, System.currentTimeMillis(), ttl.toMillis(), version);
+    }
+}
@@ -0,0 +1,242 @@
+package com.company.account.cache;
+
+import com.company.account.config.CacheConfig;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulk writer for user cache entries
+ * 여러 사용자 엔트리 (id/이메일 두 조회 뷰), tombstone, 기타 키를 한 번의 파이프라인으로 기록한다.
+ * 값은 @Cacheable 경로와 같은 {@link CachedValue} envelope 과 TTL 정책 (adaptive + jitter) 을 사용한다.
+ *
+ * 사용자 엔트리는 버전 (updatedAt) 비교 스크립트로 기록하므로, 늦게 도착한 쓰기가
+ * 이미 캐시에 있는 더 최신 데이터를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheWriter {
+
+    /**
+     * KEYS[1] 캐시 키, ARGV[1] envelope, ARGV[2] TTL (ms), ARGV[3] 버전
+     * 기존 envelope 의 버전이 더 크면 기록하지 않는다. 기록하면 1, 건너뛰면 0 을 반환.
+     * 클러스터 모드에서 두 조회 뷰가 다른 슬롯에 있을 수 있으므로 키 하나씩 실행한다.
+     */
+    private static final byte[] SET_IF_NEWER_SCRIPT = """
+            local current = redis.call('GET', KEYS[1])
+            if current then
+              local ok, decoded = pcall(cjson.decode, current)
+              if ok and type(decoded) == 'table' then
+                local version = tonumber(decoded['version'])
+                if version and version > tonumber(ARGV[3]) then
+                  return 0
+                end
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] 검증자 키, ARGV[1] 버전, ARGV[2] TTL (ms)
+     * 검증자 (ETag 용 버전 숫자) 를 더 큰 값으로만 갱신한다.
+     */
+    private static final byte[] SET_VERSION_IF_NEWER_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if current and current > tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final HotKeyLocalCache hotKeyLocalCache;
+
+    @Value("${app.cache.user.soft-ttl:15m}")
+    private Duration userSoftTtl;
+
+    @Value("${app.cache.user.hard-ttl:1h}")
+    private Duration userHardTtl;
+
+    @Value("${app.cache.negative-ttl:60s}")
+    private Duration negativeTtl;
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Write-through: 커밋 후 변경된 사용자를 모든 조회 뷰 (user:{id}, user:email:{email}) 와
+     * 이 인스턴스의 L1 pin 에 기록한다. 트랜잭션 밖에서 호출되면 즉시 기록.
+     * 응답은 커밋 시점 flush 로 갱신된 updatedAt 을 버전으로 쓰기 위해 커밋 후에 만든다.
+     */
+    public void writeThroughAfterCommit(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeThrough(UserResponse.fromEntity(user));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeThrough(UserResponse.fromEntity(user));
+            }
+        });
+    }
+
+    public void writeThrough(UserResponse user) {
+        batch().user(user).execute();
+        replacePinned(CacheConfig.CACHE_USER, user.getUserId(), user);
+        replacePinned(CacheConfig.CACHE_USER_EMAIL, user.getEmail(), user);
+        log.debug("Wrote through user cache entries - userId: {}, version: {}", user.getUserId(), versionOf(user));
+    }
+
+    private void replacePinned(String cacheName, Object key, UserResponse user) {
+        if (hotKeyLocalCache.getPinned(cacheName, key) instanceof UserResponse pinned
+                && versionOf(pinned) > versionOf(user)) {
+            return;
+        }
+        hotKeyLocalCache.onWrite(cacheName, key, user);
+    }
+
+    /**
+     * 조회 뷰 엔트리 하나를 버전 비교 스크립트로 기록 (@Cacheable 채우기 / stale 갱신 경로)
+     * 키는 RedisCacheManager prefix 와 같은 "{cacheName}:{key}" 형식.
+     */
+    public void putIfNewer(String cacheName, Object key, CachedValue envelope) {
+        batch().envelope(cacheName + ":" + key, envelope,
+                cacheTtlPolicy.adaptiveTtl(cacheName, key, envelope, userHardTtl)).execute();
+    }
+
+    public static long versionOf(UserResponse user) {
+        return versionOf(user.getUpdatedAt());
+    }
+
+    public static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    private enum WriteMode {
+        PLAIN,
+        ENVELOPE_IF_NEWER,
+        VERSION_IF_NEWER
+    }
+
+    private record TimedEntry(Object value, Duration ttl, WriteMode mode, long version) {
+    }
+
+    public class Batch {
+
+        private final Map<String, TimedEntry> entries = new LinkedHashMap<>();
+        private final long now = System.currentTimeMillis();
+
+        /**
+         * user:{id}, user:email:{email} 두 뷰와 검증자 (user:etag:{id}) 를 함께 기록 (버전 비교)
+         */
+        public Batch user(UserResponse user) {
+            long version = versionOf(user);
+            CachedValue envelope = CachedValue.versioned(user, now, cacheTtlPolicy.jitter(userSoftTtl).toMillis(), version);
+            entries.put(cacheKeyGenerator.userKey(user.getUserId()), new TimedEntry(envelope,
+                    cacheTtlPolicy.adaptiveTtl(CacheConfig.CACHE_USER, user.getUserId(), envelope, userHardTtl),
+                    WriteMode.ENVELOPE_IF_NEWER, version));
+            entries.put(cacheKeyGenerator.userEmailKey(user.getEmail()), new TimedEntry(envelope,
+                    cacheTtlPolicy.adaptiveTtl(CacheConfig.CACHE_USER_EMAIL, user.getEmail(), envelope, userHardTtl),
+                    WriteMode.ENVELOPE_IF_NEWER, version));
+            return validator(user.getUserId(), version);
+        }
+
+        /**
+         * 조건부 GET 검증자 (updatedAt epoch millis) 만 기록
+         */
+        public Batch validator(Long userId, long version) {
+            if (version > 0) {
+                entries.put(cacheKeyGenerator.userValidatorKey(userId), new TimedEntry(version,
+                        cacheTtlPolicy.jitter(userHardTtl), WriteMode.VERSION_IF_NEWER, version));
+            }
+            return this;
+        }
+
+        /**
+         * 이미 만든 envelope 을 그 버전으로 비교해 기록
+         */
+        public Batch envelope(String key, CachedValue envelope, Duration ttl) {
+            entries.put(key, new TimedEntry(envelope, ttl, WriteMode.ENVELOPE_IF_NEWER, envelope.getVersion()));
+            return this;
+        }
+
+        public Batch tombstone(String tombstoneKey) {
+            entries.put(tombstoneKey, new TimedEntry(Boolean.TRUE, cacheTtlPolicy.jitter(negativeTtl), WriteMode.PLAIN, 0L));
+            return this;
+        }
+
+        public Batch entry(String key, Object value, Duration ttl) {
+            entries.put(key, new TimedEntry(value, ttl, WriteMode.PLAIN, 0L));
+            return this;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        /**
+         * 파이프라인으로 한 번에 기록 (Redis 장애 또는 회로 OPEN 시 건너뜀)
+         */
+        @SuppressWarnings("unchecked")
+        public void execute() {
+            if (entries.isEmpty()) {
+                return;
+            }
+
+            ReadYourWrites.markWrite();
+            RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+            cacheCircuitBreaker.run("write " + entries.size() + " user cache entries", () -> {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    entries.forEach((key, entry) -> {
+                        byte[] rawKey = keySerializer.serialize(key);
+                        long ttlMillis = entry.ttl().toMillis();
+                        switch (entry.mode()) {
+                            case ENVELOPE_IF_NEWER -> connection.scriptingCommands().eval(
+                                    SET_IF_NEWER_SCRIPT, ReturnType.INTEGER, 1, rawKey,
+                                    valueSerializer.serialize(entry.value()), ascii(ttlMillis), ascii(entry.version()));
+                            case VERSION_IF_NEWER -> connection.scriptingCommands().eval(
+                                    SET_VERSION_IF_NEWER_SCRIPT, ReturnType.INTEGER, 1, rawKey,
+                                    ascii(entry.version()), ascii(ttlMillis));
+                            case PLAIN -> connection.stringCommands().pSetEx(
+                                    rawKey, ttlMillis, valueSerializer.serialize(entry.value()));
+                        }
+                    });
+                    return null;
+                });
+                log.debug("Wrote {} user cache entries in one pipeline", entries.size());
+            });
+        }
+
+        private byte[] ascii(long value) {
+            return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.company.account.cache;
+
+import com.company.account.dto.ApiResponse;
+import com.company.account.dto.UserResponse;
+import com.company.account.util.CacheKeyGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Pre-serialized HTTP response cache for GET /api/users/{userId}
+ * 최종 HTTP JSON 바이트 (ApiResponse 로 감싼 UserResponse) 를 user:http:{id} 에 그대로 저장한다.
+ * 히트 시에는 Redis 에서 읽은 바이트를 객체 매핑 없이 그대로 응답 본문으로 쓴다.
+ *
+ * 값은 "{버전}\n{JSON}" 형식으로 본문과 그 버전 (updatedAt epoch millis) 을 한 키에 함께 둔다.
+ * 응답 ETag 는 이 버전으로 만들고, 검증자보다 오래된 본문은 (비동기 삭제 전이라도) 미스로 취급한다.
+ *
+ * 본문은 HTTP ObjectMapper (@Primary) 로 만들어 일반 응답과 같은 형식을 유지하고,
+ * 사용자 캐시와 같은 경로 (CacheInvalidationService) 에서 함께 무효화된다.
+ * Redis 오류 또는 회로 OPEN 시에는 매번 직렬화하여 응답 (캐시 미사용)
+ */
+@Slf4j
+@Component
+public class UserResponseBodyCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final ObjectMapper objectMapper;
+    private final RedisReadRouting redisReadRouting;
+    private final Duration ttl;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserResponseBodyCache(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            CacheTtlPolicy cacheTtlPolicy,
+            ObjectMapper objectMapper,
+            RedisReadRouting redisReadRouting,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.user.response-ttl:10m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
+        this.cacheTtlPolicy = cacheTtlPolicy;
+        this.objectMapper = objectMapper;
+        this.redisReadRouting = redisReadRouting;
+        this.ttl = ttl;
+
+        this.hits = Counter.builder("cache.response.body")
+            .tag("result", "hit")
+            .description("Pre-serialized user response body lookups")
+            .register(meterRegistry);
+        this.misses = Counter.builder("cache.response.body")
+            .tag("result", "miss")
+            .description("Pre-serialized user response body lookups")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 응답 본문과 그 본문을 만든 사용자 버전 (ETag / Last-Modified 는 이 버전으로 만든다)
+     */
+    public record Body(byte[] json, long version) {
+    }
+
+    /**
+     * 캐시된 응답 본문을 반환하고, 없으면 loader 결과를 직렬화하여 저장 후 반환
+     * 캐시된 본문의 버전이 minVersion (현재 검증자) 보다 낮으면 다시 만든다.
+     * loader 예외 (사용자 없음 등) 는 그대로 전파되어 GlobalExceptionHandler 가 처리한다.
+     */
+    public Body getOrLoad(Long userId, long minVersion, Supplier<UserResponse> loader) {
+        byte[] rawKey = cacheKeyGenerator.userResponseBodyKey(userId).getBytes(StandardCharsets.UTF_8);
+
+        byte[] stored = cacheCircuitBreaker.call("get response body " + userId,
+            () -> redisReadRouting.readTemplate().execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey)),
+            null);
+        Body cached = stored != null ? decode(stored) : null;
+        if (cached != null && cached.version() >= minVersion) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        UserResponse user = loader.get();
+        Body body = new Body(serialize(ApiResponse.success(user)), UserCacheWriter.versionOf(user));
+        byte[] encoded = encode(body);
+        cacheCircuitBreaker.run("put response body " + userId, () ->
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().pSetEx(rawKey, cacheTtlPolicy.jitter(ttl).toMillis(), encoded)));
+        return body;
+    }
+
+    private static byte[] encode(Body body) {
+        byte[] prefix = (body.version() + "\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] encoded = Arrays.copyOf(prefix, prefix.length + body.json().length);
+        System.arraycopy(body.json(), 0, encoded, prefix.length, body.json().length);
+        return encoded;
+    }
+
+    /**
+     * 버전 접두어가 없는 (이전 형식) 값은 미스로 취급하여 다시 기록
+     */
+    @Nullable
+    private static Body decode(byte[] stored) {
+        int separator = -1;
+        for (int i = 0; i < Math.min(stored.length, 20); i++) {
+            if (stored[i] == '\n') {
+                separator = i;
+                break;
+            }
+        }
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            long version = Long.parseLong(new String(stored, 0, separator, StandardCharsets.US_ASCII));
+            return new Body(Arrays.copyOfRange(stored, separator + 1, stored.length), version);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private byte[] serialize(ApiResponse<UserResponse> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user response", e);
+        }
+    }
+}
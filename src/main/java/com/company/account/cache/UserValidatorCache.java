@@ -0,0 +1,73 @@
+package com.company.account.cache;
+
+import com.company.account.dto.UserFieldSet;
+import com.company.account.dto.UserResponse;
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET validators for user profile endpoints
+ * user:etag:{id} 에 사용자 버전 (updatedAt epoch millis) 만 숫자로 저장한다.
+ * If-None-Match / If-Modified-Since 비교는 이 값만으로 하므로 304 경로에서는
+ * 사용자 엔티티나 캐시된 프로필을 읽지 않는다.
+ *
+ * 검증자는 write-through 시 함께 (더 큰 버전으로만) 갱신되고,
+ * 사용자 캐시 무효화 시 함께 삭제된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserValidatorCache {
+
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final UserCacheWriter userCacheWriter;
+    private final RedisReadRouting redisReadRouting;
+
+    /**
+     * 캐시된 버전을 반환하고, 없으면 loader 가 반환한 사용자의 updatedAt 으로 채운다.
+     */
+    public long getOrLoad(Long userId, Supplier<UserResponse> loader) {
+        byte[] rawKey = cacheKeyGenerator.userValidatorKey(userId).getBytes(StandardCharsets.UTF_8);
+
+        byte[] cached = cacheCircuitBreaker.call("get validator " + userId,
+            () -> redisReadRouting.readTemplate().execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey)),
+            null);
+        if (cached != null) {
+            try {
+                return Long.parseLong(new String(cached, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed validator for user {}: {}", userId, e.getMessage());
+            }
+        }
+
+        long version = UserCacheWriter.versionOf(loader.get());
+        userCacheWriter.batch().validator(userId, version).execute();
+        return version;
+    }
+
+    /**
+     * 강한 ETag ("{userId}-{version hex}")
+     */
+    public static String etag(Long userId, long version) {
+        return "\"" + userId + "-" + Long.toHexString(version) + "\"";
+    }
+
+    /**
+     * Sparse fieldset 응답은 표현이 다르므로 필드 조합별로 다른 ETag 사용
+     */
+    public static String etag(Long userId, long version, @Nullable UserFieldSet fieldSet) {
+        if (fieldSet == null) {
+            return etag(userId, version);
+        }
+        return "\"" + userId + "-" + Long.toHexString(version) + "-"
+            + Integer.toHexString(fieldSet.key().hashCode()) + "\"";
+    }
+}
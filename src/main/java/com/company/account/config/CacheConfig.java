@@ -1,27 +1,46 @@
 package com.company.account.config;
 
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheRefresher;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.CircuitBreakingCache;
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.cache.HotKeyPinningCache;
+import com.company.account.cache.RedisReadRouting;
+import com.company.account.cache.ReplicaReadingCache;
+import com.company.account.cache.ResilientCacheErrorHandler;
+import com.company.account.cache.StaleWhileRevalidateCache;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.dto.PublicProfileResponse;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
@@ -33,9 +52,33 @@ public class CacheConfig implements CachingConfigurer {
      */
     public static final String CACHE_USER = "user";
     public static final String CACHE_USER_EMAIL = "user:email";
+    public static final String CACHE_USER_PUBLIC = "user:public";
     public static final String CACHE_REFRESH_TOKEN = "auth:refresh";
     public static final String CACHE_TOKEN_VALIDATION = "auth:token";
 
+    /**
+     * Stale-while-revalidate 대상 캐시 (사용자 프로필)
+     */
+    private static final Set<String> STALE_WHILE_REVALIDATE_CACHES = Set.of(CACHE_USER, CACHE_USER_EMAIL);
+
+    /**
+     * 사용자 캐시 soft TTL (이후 stale 제공 + 백그라운드 갱신)
+     */
+    @Value("${app.cache.user.soft-ttl:15m}")
+    private Duration userSoftTtl;
+
+    /**
+     * 사용자 캐시 hard TTL (Redis 키 만료, stale 제공 상한)
+     */
+    @Value("${app.cache.user.hard-ttl:1h}")
+    private Duration userHardTtl;
+
+    /**
+     * 공개 프로필 캐시 TTL
+     */
+    @Value("${app.cache.user.public-ttl:30m}")
+    private Duration userPublicTtl;
+
     /**
      * ObjectMapper for Redis JSON serialization
      * Note: This is NOT a @Bean to avoid interfering with HTTP JSON serialization
@@ -83,11 +126,61 @@ public class CacheConfig implements CachingConfigurer {
 
     private RedisConnectionFactory connectionFactory;
 
+    private CacheRefresher cacheRefresher;
+
+    private CacheCircuitBreaker cacheCircuitBreaker;
+
+    private CacheTtlPolicy cacheTtlPolicy;
+
+    private HotKeyLocalCache hotKeyLocalCache;
+
+    private RedisReadRouting redisReadRouting;
+
+    /**
+     * 사용자 캐시 버전 비교 기록 (UserCacheWriter 가 이 설정의 redisTemplate 을 쓰므로 지연 조회)
+     */
+    private ObjectProvider<UserCacheWriter> userCacheWriter;
+
+    /**
+     * replica 커넥션으로 조회하는 캐시 (replica 미설정 시 null)
+     */
+    private RedisCacheManager replicaCacheManager;
+
     @Autowired
     public void setConnectionFactory(RedisConnectionFactory connectionFactory) {
         this.connectionFactory = connectionFactory;
     }
 
+    @Autowired
+    public void setCacheRefresher(CacheRefresher cacheRefresher) {
+        this.cacheRefresher = cacheRefresher;
+    }
+
+    @Autowired
+    public void setCacheCircuitBreaker(CacheCircuitBreaker cacheCircuitBreaker) {
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
+    }
+
+    @Autowired
+    public void setCacheTtlPolicy(CacheTtlPolicy cacheTtlPolicy) {
+        this.cacheTtlPolicy = cacheTtlPolicy;
+    }
+
+    @Autowired
+    public void setHotKeyLocalCache(HotKeyLocalCache hotKeyLocalCache) {
+        this.hotKeyLocalCache = hotKeyLocalCache;
+    }
+
+    @Autowired
+    public void setUserCacheWriter(ObjectProvider<UserCacheWriter> userCacheWriter) {
+        this.userCacheWriter = userCacheWriter;
+    }
+
+    @Autowired
+    public void setRedisReadRouting(RedisReadRouting redisReadRouting) {
+        this.redisReadRouting = redisReadRouting;
+    }
+
     /**
      * Cache Manager with custom TTL per cache
      */
@@ -97,6 +190,8 @@ public class CacheConfig implements CachingConfigurer {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(5))  // 기본 TTL: 5분
             .disableCachingNullValues()
+            // "{cacheName}:{key}" 형식 (CacheKeyGenerator 키와 동일하게 맞춰 수동 무효화/MGET 가 같은 키를 사용)
+            .computePrefixWith(cacheName -> cacheName + ":")
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new StringRedisSerializer()))
@@ -104,29 +199,91 @@ public class CacheConfig implements CachingConfigurer {
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new GenericJackson2JsonRedisSerializer(createRedisObjectMapper())));
 
-        // 캐시별 TTL 설정
+        // 캐시별 TTL 설정 (엔트리마다 jitter 적용, 사용자 캐시는 adaptive TTL)
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
-        // 사용자 정보: 15분
+        // 사용자 정보: soft TTL 15분 / hard TTL 1시간~max-ttl (stale-while-revalidate)
         cacheConfigurations.put(CACHE_USER,
-            defaultConfig.entryTtl(Duration.ofMinutes(15)));
+            defaultConfig.entryTtl(adaptiveTtl(CACHE_USER, userHardTtl)));
 
-        // 이메일로 사용자 조회: 15분
+        // 이메일로 사용자 조회: soft TTL 15분 / hard TTL 1시간~max-ttl (stale-while-revalidate)
         cacheConfigurations.put(CACHE_USER_EMAIL,
-            defaultConfig.entryTtl(Duration.ofMinutes(15)));
+            defaultConfig.entryTtl(adaptiveTtl(CACHE_USER_EMAIL, userHardTtl)));
+
+        // 공개 프로필: 타입 정보 (@class) 없이 필드 4개만 저장하는 compact 엔트리, 30분 ± jitter
+        cacheConfigurations.put(CACHE_USER_PUBLIC,
+            defaultConfig.entryTtl(jitteredTtl(userPublicTtl))
+                .serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(new ObjectMapper(), PublicProfileResponse.class))));
 
-        // Refresh Token: 7일 (토큰 만료 시간과 동일)
+        // Refresh Token: 7일 (토큰 만료 시간과 동일, jitter 없음)
         cacheConfigurations.put(CACHE_REFRESH_TOKEN,
             defaultConfig.entryTtl(Duration.ofDays(7)));
 
-        // Access Token 검증 결과: 5분
+        // Access Token 검증 결과: 5분 ± jitter
         cacheConfigurations.put(CACHE_TOKEN_VALIDATION,
-            defaultConfig.entryTtl(Duration.ofMinutes(5)));
+            defaultConfig.entryTtl(jitteredTtl(Duration.ofMinutes(5))));
 
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(defaultConfig)
-            .withInitialCacheConfigurations(cacheConfigurations)
-            .transactionAware()
-            .build();
+        // Replica-preferred 조회용 캐시 (같은 설정, 읽기만 사용)
+        RedisConnectionFactory replicaConnectionFactory = redisReadRouting.replicaConnectionFactory();
+        if (replicaConnectionFactory != null) {
+            replicaCacheManager = new RedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(replicaConnectionFactory),
+                defaultConfig,
+                cacheConfigurations);
+            replicaCacheManager.initializeCaches();
+        }
+
+        RedisCacheManager cacheManager = new RedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                defaultConfig,
+                cacheConfigurations) {
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                return super.decorateCache(decorateRedisCache(cache));
+            }
+        };
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    private RedisCacheWriter.TtlFunction adaptiveTtl(String cacheName, Duration baseTtl) {
+        return (key, value) -> cacheTtlPolicy.adaptiveTtl(cacheName, key, value, baseTtl);
+    }
+
+    private RedisCacheWriter.TtlFunction jitteredTtl(Duration baseTtl) {
+        return (key, value) -> cacheTtlPolicy.jitter(baseTtl);
+    }
+
+    /**
+     * Valkey 장애 시 캐시 오류를 캐시 미스로 처리 (DB 조회로 진행)
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new ResilientCacheErrorHandler();
+    }
+
+    /**
+     * Redis 캐시 위에 적용할 데코레이터 구성
+     * 사용자 캐시: transaction-aware -> hot key L1 -> stale-while-revalidate -> circuit breaker
+     *   -> (replica 설정 시) replica 조회 / primary 쓰기 -> Redis
+     * (circuit breaker 가 가장 안쪽, transaction-aware 데코레이터는 가장 바깥쪽에 적용됨)
+     */
+    private Cache decorateRedisCache(Cache cache) {
+        Cache routed = cache;
+        if (replicaCacheManager != null) {
+            Cache replica = replicaCacheManager.getCache(cache.getName());
+            if (replica != null) {
+                routed = new ReplicaReadingCache(cache, replica);
+            }
+        }
+        Cache guarded = new CircuitBreakingCache(routed, cacheCircuitBreaker);
+        if (STALE_WHILE_REVALIDATE_CACHES.contains(cache.getName())) {
+            Cache revalidating = new StaleWhileRevalidateCache(guarded, cacheRefresher, userSoftTtl, cacheTtlPolicy,
+                (cacheName, key, envelope) -> userCacheWriter.getObject().putIfNewer(cacheName, key, envelope));
+            return new HotKeyPinningCache(revalidating, hotKeyLocalCache);
+        }
+        return guarded;
     }
 }
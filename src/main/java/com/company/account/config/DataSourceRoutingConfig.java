@@ -0,0 +1,107 @@
+package com.company.account.config;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.util.CacheKeyGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * MySQL reader (replica) 라우팅 설정
+ * app.datasource.replica.host (Aurora reader endpoint) 가 설정되면 primary / replica 커넥션 풀을 따로 만들고
+ * {@link ReadWriteRoutingDataSource} 로 readOnly 트랜잭션을 replica 로 보낸다.
+ * 설정이 없으면 이 설정은 로드되지 않고 Spring Boot 기본 DataSource (primary) 만 사용한다 (기존 동작).
+ *
+ * - replica 접속 정보는 spring.datasource 의 URL 에서 host:port 만 바꿔 사용 (계정 / 옵션 동일)
+ * - 풀별 Hikari 메트릭: hikaricp.connections.* {pool=primary|replica}
+ * - 라우팅 결과 메트릭: db.routing.connections {pool, reason}
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.host:}'.isEmpty()")
+public class DataSourceRoutingConfig {
+
+    private static final Pattern JDBC_HOST = Pattern.compile("^(jdbc:[a-z]+://)([^/:?]+)(:\\d+)?(.*)$");
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.host}") String replicaHost,
+            @Value("${app.datasource.replica.port:0}") int replicaPort) {
+        String url = replicaUrl(properties.determineUrl(), replicaHost, replicaPort);
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        log.info("MySQL replica reads enabled - reader: {}", replicaHost);
+        return dataSource;
+    }
+
+    @Bean
+    public PrimaryReadWindow primaryReadWindow(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            @Value("${app.datasource.replica.read-your-writes-window:2s}") Duration window) {
+        return new PrimaryReadWindow(redisTemplate, cacheKeyGenerator, cacheCircuitBreaker, window);
+    }
+
+    /**
+     * JPA / Flyway / JdbcTemplate 이 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 물리 커넥션을 가져오도록 지연 프록시로 감싼다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            PrimaryReadWindow primaryReadWindow,
+            MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, primaryReadWindow, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * jdbc:mysql://writer:3306/db?opts -> jdbc:mysql://reader:port/db?opts (port 0 이면 primary 포트 유지)
+     */
+    static String replicaUrl(String primaryUrl, String replicaHost, int replicaPort) {
+        Matcher matcher = JDBC_HOST.matcher(primaryUrl);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Cannot derive replica URL from spring.datasource.url: " + primaryUrl);
+        }
+        String port = replicaPort > 0 ? ":" + replicaPort : (matcher.group(3) != null ? matcher.group(3) : "");
+        return matcher.group(1) + replicaHost + port + matcher.group(4);
+    }
+}
@@ -0,0 +1,125 @@
+package com.company.account.config;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.util.CacheKeyGenerator;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB read-your-writes window for replica routing
+ * 읽기-쓰기 트랜잭션이 커밋되면 요청한 사용자를 window 동안 기록하고, 그 사이 같은 사용자의
+ * readOnly 트랜잭션은 replica 대신 primary 에서 읽는다 (복제 지연 중 방금 쓴 값을 놓치지 않도록).
+ *
+ * - 같은 요청 안의 이후 읽기: {@link ReadYourWrites} (요청 단위, 비로그인 요청 포함)
+ * - 같은 인스턴스의 다음 요청: 로컬 맵
+ * - 다른 인스턴스로 간 다음 요청: Valkey 의 db:primary-read:{userId} 키 (TTL = window)
+ *
+ * Valkey 를 쓸 수 없으면 로컬 기록만으로 판단한다 (다른 인스턴스에서 쓴 직후의 읽기는 replica 로 갈 수 있음).
+ */
+public class PrimaryReadWindow {
+
+    private static final Object TRANSACTION_MARKER = PrimaryReadWindow.class.getName() + ".MARKER";
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final Duration window;
+
+    /**
+     * userId -> window 만료 시각 (epoch ms)
+     */
+    private final Map<Long, Long> recentWriters = new ConcurrentHashMap<>();
+
+    public PrimaryReadWindow(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
+        this.window = window;
+    }
+
+    /**
+     * 현재 읽기-쓰기 트랜잭션이 커밋되면 window 시작 (트랜잭션당 1회 등록)
+     */
+    public void markWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TRANSACTION_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(TRANSACTION_MARKER, Boolean.TRUE);
+        Long userId = currentUserId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_MARKER);
+            }
+        });
+    }
+
+    /**
+     * 현재 요청 / 사용자가 window 안에 있어 primary 에서 읽어야 하는지
+     */
+    public boolean isPrimaryRequired() {
+        if (ReadYourWrites.isPrimaryRequired()) {
+            return true;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+
+        Long expiresAt = recentWriters.get(userId);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+            recentWriters.remove(userId, expiresAt);
+        }
+        return cacheCircuitBreaker.call("check DB primary read window",
+                () -> Boolean.TRUE.equals(redisTemplate.hasKey(cacheKeyGenerator.dbPrimaryReadKey(userId))),
+                false);
+    }
+
+    void recordWrite(Long userId) {
+        ReadYourWrites.markWrite();
+        if (userId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (recentWriters.size() >= PRUNE_THRESHOLD) {
+            recentWriters.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+        recentWriters.put(userId, now + window.toMillis());
+        cacheCircuitBreaker.run("mark DB primary read window", () ->
+                redisTemplate.opsForValue().set(cacheKeyGenerator.dbPrimaryReadKey(userId), Boolean.TRUE, window));
+    }
+
+    /**
+     * JwtAuthenticationFilter 가 principal 로 userId (Long) 를 설정한다. 비로그인 요청은 null
+     */
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
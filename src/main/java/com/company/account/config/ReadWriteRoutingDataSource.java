@@ -0,0 +1,70 @@
+package com.company.account.config;
+
+import com.company.account.cache.CacheFillReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Primary / replica routing DataSource
+ * - readOnly 트랜잭션 -> replica (단, {@link PrimaryReadWindow} 안이거나 캐시를 채우는 읽기 ({@link CacheFillReads}) 면 primary)
+ * - 그 외 (읽기-쓰기 트랜잭션, 트랜잭션 밖) -> primary
+ *
+ * 라우팅은 물리 커넥션을 가져오는 시점에 결정되므로 트랜잭션의 readOnly 속성이 설정된 뒤
+ * 커넥션을 가져오도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final PrimaryReadWindow primaryReadWindow;
+    private final Counter primaryWrites;
+    private final Counter primaryReadYourWrites;
+    private final Counter primaryCacheFills;
+    private final Counter replicaReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      PrimaryReadWindow primaryReadWindow, MeterRegistry meterRegistry) {
+        this.primaryReadWindow = primaryReadWindow;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryWrites = routeCounter(meterRegistry, "primary", "read-write");
+        this.primaryReadYourWrites = routeCounter(meterRegistry, "primary", "read-your-writes");
+        this.primaryCacheFills = routeCounter(meterRegistry, "primary", "cache-fill");
+        this.replicaReads = routeCounter(meterRegistry, "replica", "read-only");
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("db.routing.connections")
+            .tag("pool", pool)
+            .tag("reason", reason)
+            .description("Physical connections acquired through read/write routing")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryReadWindow.markWriteAfterCommit();
+            primaryWrites.increment();
+            return Route.PRIMARY;
+        }
+        if (CacheFillReads.isActive()) {
+            primaryCacheFills.increment();
+            return Route.PRIMARY;
+        }
+        if (primaryReadWindow.isPrimaryRequired()) {
+            primaryReadYourWrites.increment();
+            return Route.PRIMARY;
+        }
+        replicaReads.increment();
+        return Route.REPLICA;
+    }
+}
@@ -47,6 +47,8 @@ public class SecurityConfig {
 
                 // 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 캐시 진단 엔드포인트 (캐시 키 / 사용량 노출) - 아래 /actuator/** 공개 규칙보다 먼저 매칭되어야 함
+                        .requestMatchers("/actuator/hotkeys/**", "/actuator/cachefootprint/**").hasRole("ADMIN")
                         // 인증 불필요 엔드포인트
                         .requestMatchers(
                                 "/api/auth/**",          // 인증 관련
@@ -58,12 +60,17 @@ public class SecurityConfig {
                         ).permitAll()
                         // Prometheus 메트릭 엔드포인트 허용
                         .requestMatchers("/actuator/prometheus").permitAll()
+                        // 사용자 목록 내보내기 - 아래 GET /api/users/{userId} 공개 규칙보다 먼저 매칭되어야 함
+                        .requestMatchers("GET", "/api/users/export").authenticated()
                         // 사용자 조회 (GET) - 채팅방에서 판매자 정보 조회용
                         .requestMatchers("GET", "/api/users/{userId}").permitAll()
+                        .requestMatchers("GET", "/api/users/{userId}/public").permitAll()
                         .requestMatchers("GET", "/api/users/email/**").permitAll()
                         // 내 정보 관리 엔드포인트 (인증된 사용자만)
                         .requestMatchers("/api/users/me/**").authenticated()
                         // 관리자 전용 엔드포인트 (회원 관리)
+                        .requestMatchers("PATCH", "/api/users/bulk/**").hasRole("ADMIN")
+                        .requestMatchers("POST", "/api/users/import").hasRole("ADMIN")
                         // TODO: 프로덕션 환경에서는 hasRole("ADMIN")으로 변경 필요
                         .requestMatchers("/api/users/search").authenticated()  // 임시: 테스트용
                         .requestMatchers("/api/users/**").authenticated()  // 나머지 사용자 API는 인증 필요
@@ -99,7 +106,7 @@ public class SecurityConfig {
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         // CORS preflight 요청에 대한 응답 헤더 노출
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "ETag", "Last-Modified"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -3,6 +3,7 @@ package com.company.account.controller;
 import com.company.account.dto.ActivityRequest;
 import com.company.account.dto.ActivityResponse;
 import com.company.account.dto.ApiResponse;
+import com.company.account.dto.CursorPage;
 import com.company.account.entity.Activity.ActivityType;
 import com.company.account.service.ActivityService;
 import jakarta.validation.Valid;
@@ -59,6 +60,23 @@ public class ActivityController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 내 활동 내역 조회 (cursor 기반, 전체 개수 없음)
+     * GET /api/activities/me/cursor?size=20&type=PURCHASE&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping("/me/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ActivityResponse>>> getMyActivitiesWithCursor(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ActivityType type,
+            @RequestParam(required = false) String cursor,
+            Authentication authentication) {
+        Long userId = Long.valueOf(authentication.getName());
+
+        CursorPage<ActivityResponse> response = activityService.getMyActivitiesWithCursor(userId, size, type, cursor);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 최근 활동 내역 조회 (최대 10개)
      * GET /api/activities/me/recent
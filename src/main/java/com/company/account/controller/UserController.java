@@ -1,19 +1,42 @@
 package com.company.account.controller;
 
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.cache.UserResponseBodyCache;
+import com.company.account.cache.UserValidatorCache;
 import com.company.account.dto.ApiResponse;
+import com.company.account.dto.CursorPage;
+import com.company.account.dto.NicknameSuggestion;
+import com.company.account.dto.PublicProfileResponse;
+import com.company.account.dto.UserBatchResponse;
+import com.company.account.dto.UserBulkStatusResponse;
+import com.company.account.dto.UserFieldSet;
+import com.company.account.dto.UserImportResult;
 import com.company.account.dto.UserRequest;
 import com.company.account.dto.UserResponse;
 import com.company.account.entity.User.UserStatus;
+import com.company.account.service.UserBatchLookupService;
+import com.company.account.service.UserBulkStatusService;
+import com.company.account.service.UserExportService;
+import com.company.account.service.UserFieldsLookupService;
+import com.company.account.service.UserImportService;
 import com.company.account.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -23,6 +46,13 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserBatchLookupService userBatchLookupService;
+    private final UserResponseBodyCache userResponseBodyCache;
+    private final UserValidatorCache userValidatorCache;
+    private final UserFieldsLookupService userFieldsLookupService;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final UserBulkStatusService userBulkStatusService;
 
     /**
      * 사용자 생성
@@ -42,10 +72,13 @@ public class UserController {
 
     /**
      * 내 정보 조회
-     * GET /api/users/me
+     * GET /api/users/me?fields=nickname,profileImageUrl (fields 생략 시 전체)
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserResponse>> getMyInfo(Authentication authentication) {
+    public ResponseEntity<ApiResponse<?>> getMyInfo(
+            Authentication authentication,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         if (authentication == null) {
             log.error("Authentication is null - JWT token may be missing or invalid");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -68,9 +101,34 @@ public class UserController {
 
         log.info("Request to get my info for user ID: {}", userId);
 
+        UserFieldSet fieldSet = fields != null ? UserFieldSet.parse(fields) : null;
+
+        // 변경이 없으면 캐시된 검증자만으로 304 응답 (엔티티 조회 없음)
+        long version = userValidatorCache.getOrLoad(userId, () -> userService.getUserById(userId));
+        String etag = UserValidatorCache.etag(userId, version, fieldSet);
+        if (webRequest.checkNotModified(etag, version)) {
+            return null;
+        }
+
+        if (fieldSet != null) {
+            // ETag 는 선택 필드를 만든 사용자 버전으로 (캐시된 사용자가 검증자보다 오래됐으면 DB 에서 다시 읽음)
+            UserFieldsLookupService.Fields served = userFieldsLookupService.getUserFieldsById(userId, version, fieldSet);
+            return ResponseEntity.ok()
+                    .eTag(UserValidatorCache.etag(userId, served.version(), fieldSet))
+                    .lastModified(served.version())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(served.values()));
+        }
+
+        // ETag 는 실제로 내려보내는 사용자 버전으로 (검증자가 캐시된 사용자보다 앞설 수 있음)
         UserResponse response = userService.getUserById(userId);
+        long servedVersion = UserCacheWriter.versionOf(response);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(UserValidatorCache.etag(userId, servedVersion))
+                .lastModified(servedVersion)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -182,15 +240,53 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 닉네임 자동완성 (멘션 / 판매자 검색)
+     * GET /api/users/nicknames/autocomplete?prefix=홍&limit=10
+     * 활성 사용자 닉네임을 사전순으로 최대 limit 개 (1 ~ 20) 반환
+     */
+    @GetMapping("/nicknames/autocomplete")
+    public ResponseEntity<ApiResponse<List<NicknameSuggestion>>> autocompleteNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<NicknameSuggestion> response = userService.suggestNicknames(prefix, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 검색 (cursor 기반, 전체 개수 없음 / createdAt 내림차순 고정)
+     * GET /api/users/search/cursor?keyword=홍길동&status=ACTIVE&size=20&cursor={이전 응답의 nextCursor}
+     * 기존 offset 방식 (/search) 은 하위 호환을 위해 유지
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> searchUsersWithCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+
+        log.info("Request to search users with cursor - keyword: {}, status: {}, size: {}", keyword, status, size);
+
+        CursorPage<UserResponse> response = userService.searchUsersWithCursor(keyword, status, size, cursor);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 이메일로 사용자 조회
-     * GET /api/users/email/{email}
+     * GET /api/users/email/{email}?fields=... (fields 생략 시 전체)
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<ApiResponse<UserResponse>> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<ApiResponse<?>> getUserByEmail(
+            @PathVariable String email,
+            @RequestParam(required = false) String fields) {
         log.info("Request to get user by email: {}", email);
 
-        UserResponse response = userService.getUserByEmail(email);
+        Object response = fields != null
+                ? userFieldsLookupService.getUserFieldsByEmail(email, UserFieldSet.parse(fields))
+                : userService.getUserByEmail(email);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -208,15 +304,118 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 사용자 목록 내보내기 (streaming, 대량 데이터용)
+     * GET /api/users/export?status=ACTIVE&format=CSV&fields=email,nickname
+     * 전체 목록을 메모리에 올리는 GET /api/users, /status/{status} 대신 DB 커서에서 읽은 행을 바로 응답에 쓴다.
+     * @param format NDJSON (기본, 한 줄에 사용자 하나) 또는 CSV
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(defaultValue = "NDJSON") UserExportService.Format format,
+            @RequestParam(required = false) String fields) {
+        log.info("Request to export users - status: {}, format: {}", status, format);
+
+        UserFieldSet fieldSet = fields != null ? UserFieldSet.parse(fields) : UserFieldSet.all();
+        StreamingResponseBody body = out -> userExportService.export(status, fieldSet, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 사용자 일괄 가져오기 (레거시 저장소 이관용, streaming, 관리자 전용)
+     * POST /api/users/import?format=CSV (본문: CSV 또는 NDJSON, 한 행에 사용자 하나)
+     * 각 행은 POST /api/users 와 같은 필드와 검증 규칙을 따르며, 실패한 행은 건너뛰고 행 번호와 사유를 결과에 담는다.
+     * @param format NDJSON (기본) 또는 CSV (첫 행은 헤더: email,password,name[,nickname,profileImageUrl,provider])
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<UserImportResult>> importUsers(
+            @RequestParam(defaultValue = "NDJSON") UserImportService.Format format,
+            InputStream body) {
+        log.info("Request to import users - format: {}", format);
+
+        UserImportResult response = userImportService.importUsers(body, format);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 일괄 조회 (채팅방 참여자 등)
+     * POST /api/users/batch (인증 필요 - 이메일 / 연락처를 포함한 전체 정보를 반환)
+     * 존재하지 않는 userId/email 은 found=false 로 결과에 포함
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getUsersBatch(
+            @Valid @RequestBody UserRequest.BatchLookup request) {
+        log.info("Request to batch lookup users - userIds: {}, emails: {}",
+                request.getUserIds() != null ? request.getUserIds().size() : 0,
+                request.getEmails() != null ? request.getEmails().size() : 0);
+
+        UserBatchResponse response = userBatchLookupService.lookup(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 사용자 ID로 조회
-     * GET /api/users/{userId}
+     * GET /api/users/{userId}?fields=... (fields 생략 시 전체)
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long userId) {
+    public ResponseEntity<?> getUserById(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("Request to get user by ID: {}", userId);
 
-        UserResponse response = userService.getUserById(userId);
+        UserFieldSet fieldSet = fields != null ? UserFieldSet.parse(fields) : null;
+
+        // 변경이 없으면 캐시된 검증자만으로 304 응답 (엔티티 조회 없음)
+        long version = userValidatorCache.getOrLoad(userId, () -> userService.getUserById(userId));
+        String etag = UserValidatorCache.etag(userId, version, fieldSet);
+        if (webRequest.checkNotModified(etag, version)) {
+            return null;
+        }
+
+        if (fieldSet != null) {
+            // ETag 는 선택 필드를 만든 사용자 버전으로 (캐시된 사용자가 검증자보다 오래됐으면 DB 에서 다시 읽음)
+            UserFieldsLookupService.Fields served = userFieldsLookupService.getUserFieldsById(userId, version, fieldSet);
+            return ResponseEntity.ok()
+                    .eTag(UserValidatorCache.etag(userId, served.version(), fieldSet))
+                    .lastModified(served.version())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(served.values()));
+        }
+
+        // 캐시된 JSON 바이트를 그대로 응답 (히트 시 객체 매핑 없음)
+        // ETag 는 본문과 함께 저장된 버전으로 만들어 새 ETag 가 이전 본문과 짝지어지지 않게 한다
+        UserResponseBodyCache.Body body = userResponseBodyCache.getOrLoad(userId, version,
+                () -> userService.getUserById(userId));
+
+        return ResponseEntity.ok()
+                .eTag(UserValidatorCache.etag(userId, body.version()))
+                .lastModified(body.version())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.json());
+    }
+
+    /**
+     * 공개 프로필 조회 (id, 닉네임, 프로필 이미지, 평점)
+     * GET /api/users/{userId}/public
+     */
+    @GetMapping("/{userId}/public")
+    public ResponseEntity<ApiResponse<PublicProfileResponse>> getPublicProfile(@PathVariable Long userId) {
+        log.info("Request to get public profile by ID: {}", userId);
+
+        PublicProfileResponse response = userService.getPublicProfile(userId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -291,6 +490,52 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response, "사용자가 활성화되었습니다"));
     }
 
+    /**
+     * 사용자 일괄 정지
+     * PATCH /api/users/bulk/suspend (관리자 전용, bulk/activate / bulk/delete 도 동일)
+     * 존재하지 않거나 이미 정지된 userId 는 실패시키지 않고 결과 목록에 포함
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/bulk/suspend")
+    public ResponseEntity<ApiResponse<UserBulkStatusResponse>> suspendUsers(
+            @Valid @RequestBody UserRequest.BulkStatusChange request) {
+        log.info("Request to bulk suspend {} users", request.getUserIds().size());
+
+        UserBulkStatusResponse response = userBulkStatusService.suspendUsers(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "사용자가 일괄 정지되었습니다"));
+    }
+
+    /**
+     * 사용자 일괄 활성화
+     * PATCH /api/users/bulk/activate
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/bulk/activate")
+    public ResponseEntity<ApiResponse<UserBulkStatusResponse>> activateUsers(
+            @Valid @RequestBody UserRequest.BulkStatusChange request) {
+        log.info("Request to bulk activate {} users", request.getUserIds().size());
+
+        UserBulkStatusResponse response = userBulkStatusService.activateUsers(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "사용자가 일괄 활성화되었습니다"));
+    }
+
+    /**
+     * 사용자 일괄 소프트 삭제 (탈퇴)
+     * PATCH /api/users/bulk/delete
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<UserBulkStatusResponse>> deleteUsers(
+            @Valid @RequestBody UserRequest.BulkStatusChange request) {
+        log.info("Request to bulk soft delete {} users", request.getUserIds().size());
+
+        UserBulkStatusResponse response = userBulkStatusService.deleteUsers(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "사용자가 일괄 삭제되었습니다"));
+    }
+
     /**
      * 사용자 소프트 삭제 (탈퇴)
      * DELETE /api/users/{userId}
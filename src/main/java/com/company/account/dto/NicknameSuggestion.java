@@ -0,0 +1,18 @@
+package com.company.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 닉네임 자동완성 결과 (멘션 / 판매자 검색용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NicknameSuggestion {
+    private Long userId;
+    private String nickname;
+}
@@ -0,0 +1,24 @@
+package com.company.account.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비로그인 조회용 공개 프로필 (id, 닉네임, 프로필 이미지, 평점)
+ * 연락처, 상태, 타임스탬프 등은 포함하지 않는다.
+ * rating 은 받은 후기 (REVIEW) 평점 평균이며, 후기가 없으면 생략된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PublicProfileResponse {
+    private Long userId;
+    private String nickname;
+    private String profileImageUrl;
+    private Double rating;
+}
@@ -0,0 +1,41 @@
+package com.company.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponse {
+    private List<Item> results;
+    private int foundCount;
+    private int notFoundCount;
+
+    /**
+     * 요청 키(userId 또는 email) 단위 결과
+     * 존재하지 않는 키는 found=false 와 메시지로 함께 반환
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String key;
+        private boolean found;
+        private UserResponse user;
+        private String message;
+
+        public static Item found(String key, UserResponse user) {
+            return new Item(key, true, user, null);
+        }
+
+        public static Item notFound(String key) {
+            return new Item(key, false, null, "사용자를 찾을 수 없습니다: " + key);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.account.dto;
+
+import com.company.account.entity.User.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관리자 일괄 상태 변경 결과
+ * 존재하지 않는 ID 와 이미 해당 상태인 ID 는 요청을 실패시키지 않고 목록으로 반환
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkStatusResponse {
+    private UserStatus status;
+    private int requestedCount;
+    private int updatedCount;
+    private List<Long> unchangedUserIds;
+    private List<Long> notFoundUserIds;
+}
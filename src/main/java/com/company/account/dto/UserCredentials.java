@@ -0,0 +1,19 @@
+package com.company.account.dto;
+
+import com.company.account.entity.User.SocialProvider;
+import com.company.account.entity.User.UserRole;
+import com.company.account.entity.User.UserStatus;
+
+/**
+ * 로그인 자격 증명 확인용 projection
+ * 비밀번호 검증, 상태 확인, 토큰 발급에 필요한 컬럼만 읽는다 (엔티티 / 영속성 컨텍스트 미사용).
+ */
+public record UserCredentials(
+        Long userId,
+        String email,
+        String password,
+        String name,
+        UserRole role,
+        UserStatus status,
+        SocialProvider provider) {
+}
@@ -0,0 +1,109 @@
+package com.company.account.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldset (fields= 파라미터)
+ * 허용된 UserResponse 필드만 선택할 수 있으며, userId 는 항상 포함된다.
+ * 필드 이름은 User 엔티티 속성 이름과 같아 DB projection 에도 그대로 사용된다.
+ */
+public final class UserFieldSet {
+
+    private static final String ID_FIELD = "userId";
+
+    /**
+     * 허용 필드 (응답 순서 유지)
+     */
+    private static final Map<String, Function<UserResponse, Object>> ALLOWED_FIELDS;
+
+    static {
+        Map<String, Function<UserResponse, Object>> fields = new LinkedHashMap<>();
+        fields.put(ID_FIELD, UserResponse::getUserId);
+        fields.put("email", UserResponse::getEmail);
+        fields.put("name", UserResponse::getName);
+        fields.put("nickname", UserResponse::getNickname);
+        fields.put("phone", UserResponse::getPhone);
+        fields.put("profileImageUrl", UserResponse::getProfileImageUrl);
+        fields.put("role", UserResponse::getRole);
+        fields.put("status", UserResponse::getStatus);
+        fields.put("provider", UserResponse::getProvider);
+        fields.put("createdAt", UserResponse::getCreatedAt);
+        fields.put("updatedAt", UserResponse::getUpdatedAt);
+        fields.put("deletedAt", UserResponse::getDeletedAt);
+        fields.put("lastLoginAt", UserResponse::getLastLoginAt);
+        ALLOWED_FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    private final List<String> fields;
+
+    private UserFieldSet(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * 허용된 전체 필드 (내보내기 기본 컬럼)
+     */
+    public static UserFieldSet all() {
+        return new UserFieldSet(List.copyOf(ALLOWED_FIELDS.keySet()));
+    }
+
+    /**
+     * "nickname,profileImageUrl" 형식 파싱
+     * 허용되지 않은 필드가 있으면 IllegalArgumentException
+     */
+    public static UserFieldSet parse(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!ALLOWED_FIELDS.containsKey(trimmed)) {
+                throw new IllegalArgumentException("허용되지 않는 필드입니다: " + trimmed
+                        + " (허용: " + String.join(", ", ALLOWED_FIELDS.keySet()) + ")");
+            }
+            requested.add(trimmed);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("조회할 필드를 입력해주세요");
+        }
+
+        // 허용 필드 순서로 정렬 (같은 조합은 같은 응답 / ETag)
+        List<String> ordered = new ArrayList<>();
+        for (String allowed : ALLOWED_FIELDS.keySet()) {
+            if (allowed.equals(ID_FIELD) || requested.contains(allowed)) {
+                ordered.add(allowed);
+            }
+        }
+        return new UserFieldSet(Collections.unmodifiableList(ordered));
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+
+    /**
+     * 캐시된 전체 응답에서 선택 필드만 추출
+     */
+    public Map<String, Object> project(UserResponse user) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields) {
+            projected.put(field, ALLOWED_FIELDS.get(field).apply(user));
+        }
+        return projected;
+    }
+
+    /**
+     * 정규화된 필드 목록 ("userId,nickname")
+     */
+    public String key() {
+        return String.join(",", fields);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 가져오기 결과
+ * 실패한 행은 행 번호 (헤더 제외, 1부터) 와 사유를 담으며, 최대 max-errors 건까지만 포함한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String email;
+        private String message;
+    }
+}
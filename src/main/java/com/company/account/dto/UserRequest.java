@@ -4,12 +4,15 @@ import com.company.account.entity.User.SocialProvider;
 import com.company.account.entity.User.UserRole;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class UserRequest {
 
     @Data
@@ -123,4 +126,32 @@ public class UserRequest {
         @Size(min = 8, message = "비밀번호는 최소 8자 이상이어야 합니다")
         private String newPassword;
     }
+
+    /**
+     * 사용자 일괄 조회 (userIds 또는 emails)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchLookup {
+        @Size(max = 100, message = "userIds는 최대 100개까지 입니다")
+        private List<Long> userIds;
+
+        @Size(max = 100, message = "emails는 최대 100개까지 입니다")
+        private List<String> emails;
+    }
+
+    /**
+     * 관리자 일괄 상태 변경 (정지 / 활성화 / 탈퇴)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusChange {
+        @NotEmpty(message = "userIds는 필수입니다")
+        @Size(max = 1000, message = "userIds는 최대 1000개까지 입니다")
+        private List<Long> userIds;
+    }
 }
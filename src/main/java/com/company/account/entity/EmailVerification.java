@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 public class EmailVerification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "verification_id")
     private Long verificationId;
 
@@ -0,0 +1,18 @@
+package com.company.account.entity;
+
+import com.company.account.util.SnowflakeIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate 용 ID 생성기
+ * Hibernate 가 직접 생성하는 객체라 Spring 빈을 주입받을 수 없으므로,
+ * worker id 가 배정된 뒤 등록된 공유 인스턴스 ({@link SnowflakeIdGenerator#shared()}) 를 사용한다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
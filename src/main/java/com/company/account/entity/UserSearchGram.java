@@ -0,0 +1,54 @@
+package com.company.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * 사용자 검색용 n-gram 역색인 (gram -> user_id)
+ * 이름 / 이메일 / 닉네임을 소문자로 바꾼 뒤 1-gram, 2-gram 으로 나눠 저장한다.
+ * 검색은 PK (gram, user_id) 범위 조회로 후보를 좁히므로 테이블 크기와 무관하게 동작한다.
+ *
+ * gram 은 code point 16진수 ("ac00.ae38") 로 저장한다. MySQL 기본 collation (ai_ci) 은
+ * 'e' 와 'é' 같은 문자를 같은 값으로 비교하므로, 문자 그대로 저장하면 PK 충돌이나 잘못된 삭제가 생길 수 있다.
+ */
+@Entity
+@Table(name = "user_search_grams",
+        indexes = @Index(name = "idx_user_search_grams_user_id", columnList = "user_id"))
+@IdClass(UserSearchGram.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchGram implements Persistable<UserSearchGram.Key> {
+
+    @Id
+    @Column(name = "gram", length = 16)
+    private String gram;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Override
+    public Key getId() {
+        return new Key(gram, userId);
+    }
+
+    /**
+     * 색인 행은 항상 새로 추가 (변경 없음) - save() 가 merge 전 SELECT 를 하지 않도록 함
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String gram;
+        private Long userId;
+    }
+}
@@ -0,0 +1,142 @@
+package com.company.account.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 도메인 이벤트를 커밋 후 SNS 로 발행
+ * - 롤백된 변경은 발행하지 않음 (AFTER_COMMIT), 트랜잭션 밖에서 발행된 이벤트는 즉시 전송
+ * - 일괄 변경은 userIds 를 MAX_IDS_PER_MESSAGE 개씩 나눠 메시지를 만들고 PublishBatch (최대 10건) 로 묶어 전송
+ * - SNS 호출은 요청 스레드를 막지 않도록 전용 단일 스레드에서 순서대로 수행 (대기열 MAX_PENDING_PUBLISHES 초과 시 버리고 로그)
+ *
+ * aws.sns.user-events-topic-arn 이 비어 있거나 SnsClient 가 없는 환경 (local) 에서는 발행하지 않는다.
+ * 발행 실패는 상태 변경을 되돌리지 않고 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class UserEventPublisher {
+
+    static final String USER_STATUS_CHANGED = "USER_STATUS_CHANGED";
+    static final int MAX_IDS_PER_MESSAGE = 500;
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int MAX_PENDING_PUBLISHES = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ObjectProvider<SnsClient> snsClientProvider;
+    private final ObjectMapper objectMapper;
+    private final String topicArn;
+    private final ThreadPoolExecutor publishExecutor;
+
+    public UserEventPublisher(
+            ObjectProvider<SnsClient> snsClientProvider,
+            ObjectMapper objectMapper,
+            @Value("${aws.sns.user-events-topic-arn:}") String topicArn) {
+        this.snsClientProvider = snsClientProvider;
+        this.objectMapper = objectMapper;
+        this.topicArn = topicArn;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-event-publish-");
+        threadFactory.setDaemon(true);
+        this.publishExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_PENDING_PUBLISHES), threadFactory);
+    }
+
+    /**
+     * 대기 중인 발행을 SHUTDOWN_TIMEOUT_SECONDS 동안 마저 보낸 뒤 종료
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        publishExecutor.shutdown();
+        if (!publishExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Dropping {} pending {} publishes on shutdown", publishExecutor.shutdownNow().size(), USER_STATUS_CHANGED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        SnsClient snsClient = snsClientProvider.getIfAvailable();
+        if (snsClient == null || topicArn.isBlank() || event.userIds().isEmpty()) {
+            return;
+        }
+
+        List<PublishBatchRequestEntry> entries = new ArrayList<>();
+        List<Long> userIds = event.userIds();
+        for (int from = 0; from < userIds.size(); from += MAX_IDS_PER_MESSAGE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + MAX_IDS_PER_MESSAGE, userIds.size()));
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("userIds", chunk);
+            data.put("status", event.status().name());
+            data.put("changedAt", event.changedAt().toString());
+            entries.add(PublishBatchRequestEntry.builder()
+                    .id(Integer.toString(entries.size()))
+                    .message(toMessage(USER_STATUS_CHANGED, data))
+                    .messageAttributes(Map.of("eventType", MessageAttributeValue.builder()
+                            .dataType("String")
+                            .stringValue(USER_STATUS_CHANGED)
+                            .build()))
+                    .build());
+        }
+
+        try {
+            publishExecutor.execute(() -> publish(snsClient, entries, userIds.size()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Publish queue is full. Dropping {} event for {} users", USER_STATUS_CHANGED, userIds.size());
+        }
+    }
+
+    private void publish(SnsClient snsClient, List<PublishBatchRequestEntry> entries, int userCount) {
+        for (int from = 0; from < entries.size(); from += MAX_BATCH_ENTRIES) {
+            List<PublishBatchRequestEntry> batch = entries.subList(from, Math.min(from + MAX_BATCH_ENTRIES, entries.size()));
+            try {
+                PublishBatchResponse response = snsClient.publishBatch(PublishBatchRequest.builder()
+                        .topicArn(topicArn)
+                        .publishBatchRequestEntries(batch)
+                        .build());
+                if (response.hasFailed() && !response.failed().isEmpty()) {
+                    log.warn("Failed to publish {} of {} {} messages: {}",
+                            response.failed().size(), batch.size(), USER_STATUS_CHANGED, response.failed());
+                }
+            } catch (Exception e) {
+                log.warn("Failed to publish {} event for {} users", USER_STATUS_CHANGED, userCount, e);
+            }
+        }
+    }
+
+    private String toMessage(String eventType, Map<String, Object> data) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("eventType", eventType);
+        message.put("source", "service-account");
+        message.put("timestamp", Instant.now().toString());
+        message.put("correlationId", UUID.randomUUID().toString());
+        message.put("data", data);
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " event", e);
+        }
+    }
+}
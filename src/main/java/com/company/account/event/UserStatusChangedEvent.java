@@ -0,0 +1,13 @@
+package com.company.account.event;
+
+import com.company.account.entity.User.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 상태 변경 (정지 / 활성화 / 탈퇴) 이벤트
+ * 일괄 변경은 요청 전체를 이벤트 하나로 발행하며, 커밋 후 {@link UserEventPublisher} 가 SNS 로 전달한다.
+ */
+public record UserStatusChangedEvent(List<Long> userIds, UserStatus status, LocalDateTime changedAt) {
+}
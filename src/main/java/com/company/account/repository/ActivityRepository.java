@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -21,6 +22,25 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
     Page<Activity> findByUserIdAndActivityTypeOrderByCreatedAtDesc(
             Long userId, ActivityType activityType, Pageable pageable);
 
+    // Keyset pagination 첫 페이지 (count 쿼리 없음, (createdAt, activityId) 내림차순)
+    @Query("SELECT a FROM Activity a WHERE a.userId = :userId " +
+            "AND (:activityType IS NULL OR a.activityType = :activityType) " +
+            "ORDER BY a.createdAt DESC, a.activityId DESC")
+    List<Activity> findFirstKeysetPage(@Param("userId") Long userId,
+                                       @Param("activityType") ActivityType activityType,
+                                       Pageable pageable);
+
+    // Keyset pagination 다음 페이지: cursor 위치 (createdAt, activityId) 이후
+    @Query("SELECT a FROM Activity a WHERE a.userId = :userId " +
+            "AND (:activityType IS NULL OR a.activityType = :activityType) " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.activityId < :activityId)) " +
+            "ORDER BY a.createdAt DESC, a.activityId DESC")
+    List<Activity> findKeysetPageBefore(@Param("userId") Long userId,
+                                        @Param("activityType") ActivityType activityType,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("activityId") Long activityId,
+                                        Pageable pageable);
+
     // 사용자별 활동 내역 개수
     long countByUserId(Long userId);
 
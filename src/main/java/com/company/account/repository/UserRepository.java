@@ -1,59 +1,161 @@
 package com.company.account.repository;
 
+import com.company.account.dto.PublicProfileResponse;
+import com.company.account.dto.UserCredentials;
+import com.company.account.dto.UserResponse;
 import com.company.account.entity.User;
 import com.company.account.entity.User.UserRole;
 import com.company.account.entity.User.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+
+    /**
+     * 조회 응답 (UserResponse) constructor projection
+     * 읽기 전용 경로는 엔티티 대신 필요한 컬럼만 DTO 로 읽어 영속성 컨텍스트 등록 / dirty checking 스냅샷을 만들지 않는다.
+     */
+    String USER_RESPONSE_PROJECTION = "SELECT new com.company.account.dto.UserResponse(" +
+            "u.userId, u.email, u.name, u.role, u.status, u.createdAt, u.updatedAt, u.deletedAt, " +
+            "u.nickname, u.phone, u.profileImageUrl, u.provider, u.lastLoginAt) FROM User u ";
+
+    /**
+     * 키워드 검색 조건 (관리자 제외)
+     * n-gram 색인 (user_search_grams) 으로 모든 gram 을 가진 사용자만 후보로 좁힌 뒤,
+     * 후보 행에만 LIKE 를 적용해 다른 필드 / 떨어진 위치의 gram 으로 생긴 오탐을 제거
+     */
+    String SEARCH_CONDITION = "u.role <> :excludeRole AND " +
+            "u.userId IN (SELECT g.userId FROM UserSearchGram g WHERE g.gram IN :grams " +
+            "GROUP BY g.userId HAVING COUNT(g.gram) = :gramCount) AND " +
+            "(LOWER(u.name) LIKE CONCAT('%', :keyword, '%') OR " +
+            "LOWER(u.email) LIKE CONCAT('%', :keyword, '%') OR " +
+            "LOWER(u.nickname) LIKE CONCAT('%', :keyword, '%'))";
 
     Optional<User> findByEmail(String email);
 
     Optional<User> findByNickname(String nickname);
 
+    // 단건 조회 projection (getUserById / getUserByEmail, 캐시 로더)
+    @Query(USER_RESPONSE_PROJECTION + "WHERE u.userId = :userId")
+    Optional<UserResponse> findResponseById(@Param("userId") Long userId);
+
+    @Query(USER_RESPONSE_PROJECTION + "WHERE u.email = :email")
+    Optional<UserResponse> findResponseByEmail(@Param("email") String email);
+
+    // 배치 조회 projection (IN 쿼리 1회)
+    @Query(USER_RESPONSE_PROJECTION + "WHERE u.userId IN :userIds")
+    List<UserResponse> findResponsesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query(USER_RESPONSE_PROJECTION + "WHERE u.email IN :emails")
+    List<UserResponse> findResponsesByEmailIn(@Param("emails") Collection<String> emails);
+
+    // 로그인 자격 증명 확인 projection
+    @Query("SELECT new com.company.account.dto.UserCredentials(" +
+            "u.userId, u.email, u.password, u.name, u.role, u.status, u.provider) " +
+            "FROM User u WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    // 로그인 성공 시 Refresh Token / 마지막 로그인 시각만 갱신 (엔티티 로딩 없이 UPDATE 1회)
+    // 같은 영속성 컨텍스트에 이미 로딩된 User 가 이전 값을 보지 않도록 실행 후 clear
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.refreshToken = :refreshToken, u.lastLoginAt = :lastLoginAt WHERE u.userId = :userId")
+    int updateLoginState(@Param("userId") Long userId,
+                         @Param("refreshToken") String refreshToken,
+                         @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
+    // 관리자 일괄 상태 변경 (set-based UPDATE 1회). 벌크 UPDATE 는 @UpdateTimestamp 가 적용되지 않으므로 updatedAt 직접 지정
+    // 이미 같은 상태인 사용자는 건너뛰어 updatedAt (캐시 버전) 이 바뀌지 않도록 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.updatedAt = :updatedAt " +
+            "WHERE u.userId IN :userIds AND u.status <> :status")
+    int updateStatusIn(@Param("userIds") Collection<Long> userIds,
+                       @Param("status") UserStatus status,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 탈퇴 (deletedAt 기록) / 재활성화 (deletedAt 초기화) 용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.deletedAt = :deletedAt, u.updatedAt = :updatedAt " +
+            "WHERE u.userId IN :userIds AND u.status <> :status")
+    int updateStatusAndDeletedAtIn(@Param("userIds") Collection<Long> userIds,
+                                   @Param("status") UserStatus status,
+                                   @Param("deletedAt") LocalDateTime deletedAt,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 공개 프로필 projection (평점은 받은 후기 평균, 탈퇴 사용자 제외)
+    @Query("SELECT new com.company.account.dto.PublicProfileResponse(" +
+            "u.userId, u.nickname, u.profileImageUrl, " +
+            "(SELECT AVG(a.rating) FROM Activity a WHERE a.relatedUserId = u.userId " +
+            "AND a.activityType = com.company.account.entity.Activity.ActivityType.REVIEW)) " +
+            "FROM User u WHERE u.userId = :userId " +
+            "AND u.status <> com.company.account.entity.User.UserStatus.DELETED")
+    Optional<PublicProfileResponse> findPublicProfile(@Param("userId") Long userId);
+
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
 
+    /**
+     * 일괄 가져오기 중복 확인 - 주어진 이메일 중 이미 사용 중인 값 (한 번의 IN 조회)
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
     List<User> findByStatus(UserStatus status);
 
     Optional<User> findByUserIdAndStatus(Long userId, UserStatus status);
 
-    // 페이지네이션 (관리자 제외)
-    @Query("SELECT u FROM User u WHERE u.role <> :excludeRole")
-    Page<User> findAllUsersOnly(@Param("excludeRole") UserRole excludeRole, Pageable pageable);
+    // 캐시 워밍업: 최근 로그인 사용자 (count 쿼리 없는 Slice)
+    Slice<User> findByStatusAndLastLoginAtAfter(UserStatus status, LocalDateTime since, Pageable pageable);
+
+    // 닉네임 자동완성 색인 재구성: 활성 사용자 (userId 순, count 쿼리 없는 Slice)
+    Slice<User> findByStatusAndRoleNotAndUserIdGreaterThanOrderByUserIdAsc(
+            UserStatus status, UserRole excludeRole, Long afterId, Pageable pageable);
 
-    @Query("SELECT u FROM User u WHERE u.status = :status AND u.role <> :excludeRole")
-    Page<User> findByStatusUsersOnly(@Param("status") UserStatus status, @Param("excludeRole") UserRole excludeRole, Pageable pageable);
+    // 페이지네이션 (관리자 제외) - 관리자 목록 행 projection
+    @Query(value = USER_RESPONSE_PROJECTION + "WHERE u.role <> :excludeRole",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.role <> :excludeRole")
+    Page<UserResponse> findAllUsersOnly(@Param("excludeRole") UserRole excludeRole, Pageable pageable);
+
+    @Query(value = USER_RESPONSE_PROJECTION + "WHERE u.status = :status AND u.role <> :excludeRole",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.status = :status AND u.role <> :excludeRole")
+    Page<UserResponse> findByStatusUsersOnly(@Param("status") UserStatus status, @Param("excludeRole") UserRole excludeRole, Pageable pageable);
 
     // 검색 기능 (이름, 이메일, 닉네임) - 관리자 제외
-    @Query("SELECT u FROM User u WHERE " +
-            "u.role <> :excludeRole AND " +
-            "(:keyword IS NULL OR " +
-            "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<User> searchUsersOnly(@Param("keyword") String keyword, @Param("excludeRole") UserRole excludeRole, Pageable pageable);
+    @Query(value = USER_RESPONSE_PROJECTION + "WHERE " + SEARCH_CONDITION,
+            countQuery = "SELECT COUNT(u) FROM User u WHERE " + SEARCH_CONDITION)
+    Page<UserResponse> searchUsersOnly(@Param("keyword") String keyword,
+                               @Param("grams") Collection<String> grams,
+                               @Param("gramCount") long gramCount,
+                               @Param("excludeRole") UserRole excludeRole,
+                               Pageable pageable);
 
     // 검색 + 상태별 필터 - 관리자 제외
-    @Query("SELECT u FROM User u WHERE " +
-            "u.role <> :excludeRole AND " +
-            "u.status = :status AND " +
-            "(:keyword IS NULL OR " +
-            "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<User> searchUsersByStatusUsersOnly(@Param("keyword") String keyword,
+    @Query(value = USER_RESPONSE_PROJECTION + "WHERE u.status = :status AND " + SEARCH_CONDITION,
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.status = :status AND " + SEARCH_CONDITION)
+    Page<UserResponse> searchUsersByStatusUsersOnly(@Param("keyword") String keyword,
+                                     @Param("grams") Collection<String> grams,
+                                     @Param("gramCount") long gramCount,
                                      @Param("status") UserStatus status,
                                      @Param("excludeRole") UserRole excludeRole,
                                      Pageable pageable);
+
+    // 검색 색인 backfill: 아직 gram 이 없는 사용자 (userId 순)
+    @Query("SELECT u FROM User u WHERE u.userId > :afterId AND NOT EXISTS " +
+            "(SELECT g.userId FROM UserSearchGram g WHERE g.userId = u.userId) ORDER BY u.userId")
+    List<User> findUnindexedForSearch(@Param("afterId") Long afterId, Pageable pageable);
 }
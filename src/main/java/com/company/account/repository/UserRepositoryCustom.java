@@ -0,0 +1,36 @@
+package com.company.account.repository;
+
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.entity.User.UserRole;
+import com.company.account.entity.User.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 선택한 속성만 조회하는 projection (attribute = value 인 첫 행)
+     * 결과는 요청 순서대로 속성 이름 -> 값
+     */
+    Optional<Map<String, Object>> findFieldsBy(String attribute, Object value, Collection<String> fields);
+
+    /**
+     * Keyset pagination: (createdAt, userId) 내림차순으로 cursor 위치 다음 행부터 limit 개 조회
+     * keyword / status / cursor 가 null 이면 해당 조건 생략 (cursor 가 null 이면 첫 페이지)
+     * 결과는 엔티티가 아닌 UserResponse projection
+     */
+    List<UserResponse> findUsersOnlyBefore(String keyword, UserStatus status, UserRole excludeRole,
+                                           LocalDateTime createdAt, Long userId, int limit);
+
+    /**
+     * 내보내기 (streaming): status 가 null 이면 전체, userId 순
+     * 호출 측 트랜잭션 안에서 사용하고 다 읽거나 닫아야 한다 (스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리 불가).
+     */
+    Stream<User> streamForExport(UserStatus status);
+}
@@ -0,0 +1,147 @@
+package com.company.account.repository;
+
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.entity.UserSearchGram;
+import com.company.account.util.NGramTokenizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * UserRepository custom fragment
+ * 동적 필드 목록에 맞춘 tuple projection (SELECT 절에 요청한 컬럼만 포함),
+ * 선택 조건 조합이 많은 keyset 검색, DB 별 fetch size 가 다른 내보내기 스트림
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> findFieldsBy(String attribute, Object value, Collection<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> user.get(field).alias(field))
+                .toList();
+        query.multiselect(selections)
+                .where(cb.equal(user.get(attribute), value));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(1)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple row = rows.get(0);
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String field : fields) {
+            result.put(field, row.get(field));
+        }
+        return Optional.of(result);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponse> findUsersOnlyBefore(String keyword, User.UserStatus status, User.UserRole excludeRole,
+                                                  LocalDateTime createdAt, Long userId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponse> query = cb.createQuery(UserResponse.class);
+        Root<User> user = query.from(User.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.notEqual(user.get("role"), excludeRole));
+        if (status != null) {
+            predicates.add(cb.equal(user.get("status"), status));
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            // n-gram 색인으로 후보를 좁힌 뒤 후보 행만 LIKE 로 확인 (UserRepository.searchUsersOnly 와 동일)
+            Set<String> grams = NGramTokenizer.queryGrams(keyword);
+            Subquery<Long> candidates = query.subquery(Long.class);
+            Root<UserSearchGram> gram = candidates.from(UserSearchGram.class);
+            candidates.select(gram.get("userId"))
+                    .where(gram.get("gram").in(grams))
+                    .groupBy(gram.get("userId"))
+                    .having(cb.equal(cb.count(gram.get("gram")), (long) grams.size()));
+            predicates.add(user.get("userId").in(candidates));
+
+            String pattern = "%" + NGramTokenizer.normalize(keyword) + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(user.get("name")), pattern),
+                    cb.like(cb.lower(user.get("email")), pattern),
+                    cb.like(cb.lower(user.get("nickname")), pattern)));
+        }
+        if (createdAt != null && userId != null) {
+            // (createdAt, userId) < (:createdAt, :userId) - OFFSET 없이 인덱스 위치에서 바로 이어서 읽음
+            predicates.add(cb.or(
+                    cb.lessThan(user.get("createdAt"), createdAt),
+                    cb.and(cb.equal(user.get("createdAt"), createdAt),
+                            cb.lessThan(user.get("userId"), userId))));
+        }
+
+        // UserRepository.USER_RESPONSE_PROJECTION 과 같은 constructor projection
+        query.select(cb.construct(UserResponse.class,
+                        user.get("userId"), user.get("email"), user.get("name"), user.get("role"), user.get("status"),
+                        user.get("createdAt"), user.get("updatedAt"), user.get("deletedAt"), user.get("nickname"),
+                        user.get("phone"), user.get("profileImageUrl"), user.get("provider"), user.get("lastLoginAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("userId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * MySQL 은 fetch size Integer.MIN_VALUE 일 때만 행 단위 스트리밍 (결과 전체를 메모리에 올리지 않음).
+     * useCursorFetch=true 는 모든 문장을 server-side prepared statement 로 바꾸므로 URL 에 켜지 않고 이 쿼리에서만 스트리밍한다.
+     * 그 외 DB (로컬 / 테스트 H2) 는 음수 fetch size 를 허용하지 않으므로 일반 fetch size 를 사용.
+     * 읽기 전용 힌트로 dirty checking 스냅샷을 만들지 않으며, 호출 측에서 행마다 detach
+     */
+    @Override
+    public Stream<User> streamForExport(User.UserStatus status) {
+        return entityManager.createQuery(
+                        "SELECT u FROM User u WHERE (:status IS NULL OR u.status = :status) ORDER BY u.userId", User.class)
+                .setParameter("status", status)
+                .setHint(HINT_FETCH_SIZE, exportFetchSize())
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private int exportFetchSize() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect
+                ? Integer.MIN_VALUE
+                : EXPORT_FETCH_SIZE;
+    }
+}
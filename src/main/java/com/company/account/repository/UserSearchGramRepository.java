@@ -0,0 +1,26 @@
+package com.company.account.repository;
+
+import com.company.account.entity.UserSearchGram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserSearchGramRepository extends JpaRepository<UserSearchGram, UserSearchGram.Key> {
+
+    @Query("SELECT g.gram FROM UserSearchGram g WHERE g.userId = :userId")
+    List<String> findGramsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserSearchGram g WHERE g.userId = :userId AND g.gram IN :grams")
+    int deleteGrams(@Param("userId") Long userId, @Param("grams") Collection<String> grams);
+
+    @Modifying
+    @Query("DELETE FROM UserSearchGram g WHERE g.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,5 +1,8 @@
 package com.company.account.security;
 
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.RedisReadRouting;
 import com.company.account.dto.TokenValidationCache;
 import com.company.account.util.CacheKeyGenerator;
 import jakarta.servlet.FilterChain;
@@ -18,18 +21,23 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Duration TOKEN_VALIDATION_TTL = Duration.ofMinutes(5);
+
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final RedisReadRouting redisReadRouting;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -56,9 +64,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String tokenHash = cacheKeyGenerator.hashToken(jwt);
                 String cacheKey = cacheKeyGenerator.tokenValidationKey(tokenHash);
 
-                // 2. 캐시에서 검증 결과 조회
-                TokenValidationCache cachedValidation =
-                    (TokenValidationCache) redisTemplate.opsForValue().get(cacheKey);
+                // 2. 캐시에서 검증 결과 조회 (replica 우선, Redis 장애 시 캐시 미스로 처리)
+                TokenValidationCache cachedValidation = cacheCircuitBreaker.call(
+                    "get token validation",
+                    () -> (TokenValidationCache) redisReadRouting.readTemplate().opsForValue().get(cacheKey),
+                    null);
 
                 Long userId;
                 String email;
@@ -83,14 +93,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     email = jwtTokenProvider.getEmailFromToken(jwt);
                     role = jwtTokenProvider.getRoleFromToken(jwt);
 
-                    // 검증 결과 캐싱 (5분)
+                    // 검증 결과 캐싱 (5분 ± jitter)
                     TokenValidationCache validationCache = TokenValidationCache.builder()
                         .userId(userId)
                         .email(email)
                         .role(role)
                         .expiredAt(LocalDateTime.now().plusMinutes(5))
                         .build();
-                    redisTemplate.opsForValue().set(cacheKey, validationCache, 5, TimeUnit.MINUTES);
+                    cacheCircuitBreaker.run("cache token validation", () ->
+                        redisTemplate.opsForValue().set(cacheKey, validationCache, cacheTtlPolicy.jitter(TOKEN_VALIDATION_TTL)));
                 }
 
                 // Spring Security의 Authority 형식으로 변환 (ROLE_ 접두사 추가)
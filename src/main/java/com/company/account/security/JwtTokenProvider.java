@@ -84,6 +84,14 @@ public class JwtTokenProvider {
         return claims.get("role", String.class);
     }
 
+    /**
+     * 토큰 만료 시각 추출
+     */
+    public Date getExpirationFromToken(String token) {
+        Claims claims = parseClaims(token);
+        return claims.getExpiration();
+    }
+
     /**
      * 토큰 유효성 검증
      */
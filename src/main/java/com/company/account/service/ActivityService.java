@@ -2,9 +2,11 @@ package com.company.account.service;
 
 import com.company.account.dto.ActivityRequest;
 import com.company.account.dto.ActivityResponse;
+import com.company.account.dto.CursorPage;
 import com.company.account.entity.Activity;
 import com.company.account.entity.Activity.ActivityType;
 import com.company.account.repository.ActivityRepository;
+import com.company.account.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
 public class ActivityService {
 
     private final ActivityRepository activityRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 활동 내역 생성
@@ -40,6 +43,13 @@ public class ActivityService {
                 .build();
 
         Activity savedActivity = activityRepository.save(activity);
+
+        // 후기 평점은 상대 사용자의 공개 프로필 평점에 반영
+        if (savedActivity.getActivityType() == ActivityType.REVIEW
+                && savedActivity.getRelatedUserId() != null && savedActivity.getRating() != null) {
+            cacheInvalidationService.invalidatePublicProfile(savedActivity.getRelatedUserId());
+        }
+
         return ActivityResponse.fromEntity(savedActivity);
     }
 
@@ -64,6 +74,28 @@ public class ActivityService {
         return activities.map(ActivityResponse::fromEntity);
     }
 
+    /**
+     * 내 활동 내역 조회 (cursor 기반, (createdAt, activityId) 내림차순)
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ActivityResponse> getMyActivitiesWithCursor(Long userId, int size, ActivityType activityType,
+                                                                  String cursor) {
+        CursorPage.validateSize(size);
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+        log.info("Getting activities with cursor for user ID: {}, size: {}, type: {}, after: {}",
+                userId, size, activityType, position);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Activity> activities = position == null
+                ? activityRepository.findFirstKeysetPage(userId, activityType, limit)
+                : activityRepository.findKeysetPageBefore(
+                        userId, activityType, position.createdAt(), position.id(), limit);
+
+        return CursorPage.of(activities, size, ActivityResponse::fromEntity,
+                activity -> CursorCodec.encode(activity.getCreatedAt(), activity.getActivityId()));
+    }
+
     /**
      * 최근 활동 내역 조회 (최대 10개)
      */
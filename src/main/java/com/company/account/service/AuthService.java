@@ -1,9 +1,12 @@
 package com.company.account.service;
 
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.NicknameAutocompleteIndex;
 import com.company.account.dto.AuthRequest;
 import com.company.account.dto.AuthResponse;
 import com.company.account.dto.KakaoUserInfo;
 import com.company.account.dto.RefreshTokenCache;
+import com.company.account.dto.UserCredentials;
 import com.company.account.entity.User;
 import com.company.account.repository.UserRepository;
 import com.company.account.security.JwtTokenProvider;
@@ -31,6 +34,9 @@ public class AuthService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheKeyGenerator cacheKeyGenerator;
     private final CacheInvalidationService cacheInvalidationService;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final UserSearchIndexService userSearchIndexService;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
 
     /**
      * 회원가입 (이메일 인증 필요)
@@ -60,6 +66,11 @@ public class AuthService {
 
         User savedUser = userRepository.save(user);
         log.info("User signed up successfully with ID: {}", savedUser.getUserId());
+        userSearchIndexService.index(savedUser);
+        nicknameAutocompleteIndex.syncAfterCommit(savedUser);
+
+        // 이전에 캐시된 "사용자 없음" tombstone 제거
+        cacheInvalidationService.invalidateNegativeLookups(savedUser.getUserId(), savedUser.getEmail());
 
         // TODO: 임시로 이메일 인증 코드 전송 비활성화
         // emailVerificationService.sendVerificationCode(request.getEmail());
@@ -74,12 +85,12 @@ public class AuthService {
     public AuthResponse.LoginResponse login(AuthRequest.Login request) {
         log.info("User login attempt: {}", request.getEmail());
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
+        // 자격 증명 확인에 필요한 컬럼만 조회 (엔티티 로딩 없음)
+        UserCredentials user = userRepository.findCredentialsByEmail(request.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다"));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(request.getPassword(), user.password())) {
             throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
@@ -89,58 +100,36 @@ public class AuthService {
         // }
 
         // 계정 상태 확인
-        if (user.getStatus() == User.UserStatus.DELETED) {
+        if (user.status() == User.UserStatus.DELETED) {
             throw new IllegalArgumentException("삭제된 계정입니다");
         }
-        if (user.getStatus() == User.UserStatus.SUSPENDED) {
+        if (user.status() == User.UserStatus.SUSPENDED) {
             throw new IllegalArgumentException("정지된 계정입니다");
         }
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.createAccessToken(
-                user.getUserId(),
-                user.getEmail(),
-                user.getRole().name()
+                user.userId(),
+                user.email(),
+                user.role().name()
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.userId());
 
-        // Refresh Token 저장 (DB)
-        user.setRefreshToken(refreshToken);
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        // Refresh Token 저장 (DB) - 두 컬럼만 UPDATE
+        userRepository.updateLoginState(user.userId(), refreshToken, LocalDateTime.now());
 
         // Refresh Token 메타정보 캐싱 (Redis)
-        // Redis 연결 실패 시에도 로그인은 정상 진행되도록 예외 처리
-        try {
-            String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(user.getUserId());
-            RefreshTokenCache tokenCache = RefreshTokenCache.builder()
-                .userId(user.getUserId())
-                .token(refreshToken)
-                .isValid(true)
-                .expiredAt(LocalDateTime.now().plusDays(7))
-                .build();
-            redisTemplate.opsForValue().set(
-                refreshTokenKey,
-                tokenCache,
-                7,
-                TimeUnit.DAYS
-            );
-            log.debug("Refresh token cached in Redis for user: {}", user.getUserId());
-        } catch (Exception e) {
-            // Redis 연결 실패 시 로그만 남기고 계속 진행
-            // DB에 Refresh Token이 저장되어 있으므로 로그인은 정상 동작
-            log.warn("Failed to cache refresh token in Redis for user: {}. Error: {}. Login will continue.", 
-                user.getUserId(), e.getMessage());
-        }
+        // Redis 장애 시에도 DB에 Refresh Token이 저장되어 있으므로 로그인은 정상 동작
+        cacheRefreshToken(user.userId(), refreshToken);
 
-        log.info("User logged in successfully: {}", user.getUserId());
+        log.info("User logged in successfully: {}", user.userId());
 
         return AuthResponse.LoginResponse.builder()
-                .userId(user.getUserId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .role(user.getRole().name())
-                .provider(user.getProvider() != null ? user.getProvider().name() : null)
+                .userId(user.userId())
+                .email(user.email())
+                .name(user.name())
+                .role(user.role().name())
+                .provider(user.provider() != null ? user.provider().name() : null)
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .expiresAt(LocalDateTime.now().plusHours(1))  // Access Token 만료 시간
@@ -183,14 +172,11 @@ public class AuthService {
         Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
 
         // 1. Redis 캐시 확인 (Redis 연결 실패 시 DB로 fallback)
-        RefreshTokenCache cachedToken = null;
-        try {
-            String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(userId);
-            cachedToken = (RefreshTokenCache) redisTemplate.opsForValue().get(refreshTokenKey);
-        } catch (Exception e) {
-            log.warn("Failed to get refresh token from Redis cache for user: {}. Error: {}. Will query database.", 
-                userId, e.getMessage());
-        }
+        String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(userId);
+        RefreshTokenCache cachedToken = cacheCircuitBreaker.call(
+                "get refresh token " + refreshTokenKey,
+                () -> (RefreshTokenCache) redisTemplate.opsForValue().get(refreshTokenKey),
+                null);
 
         if (cachedToken != null && cachedToken.getToken().equals(refreshToken) && cachedToken.getIsValid()) {
             log.debug("Refresh token found in cache for user: {}", userId);
@@ -224,21 +210,8 @@ public class AuthService {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
         }
 
-        // 캐시 재생성 (Redis 연결 실패 시에도 토큰 갱신은 정상 진행)
-        try {
-            String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(user.getUserId());
-            RefreshTokenCache newCache = RefreshTokenCache.builder()
-                .userId(user.getUserId())
-                .token(refreshToken)
-                .isValid(true)
-                .expiredAt(LocalDateTime.now().plusDays(7))
-                .build();
-            redisTemplate.opsForValue().set(refreshTokenKey, newCache, 7, TimeUnit.DAYS);
-            log.debug("Refresh token cache regenerated in Redis for user: {}", user.getUserId());
-        } catch (Exception e) {
-            log.warn("Failed to regenerate refresh token cache in Redis for user: {}. Error: {}. Token refresh will continue.", 
-                user.getUserId(), e.getMessage());
-        }
+        // 캐시 재생성 (Redis 장애 시에도 토큰 갱신은 정상 진행)
+        cacheRefreshToken(user.getUserId(), refreshToken);
 
         // 새로운 Access Token 생성
         String newAccessToken = jwtTokenProvider.createAccessToken(
@@ -332,6 +305,11 @@ public class AuthService {
                 
                 user = userRepository.save(user);
                 log.info("Deleted user reactivated with ID: {}", user.getUserId());
+                userSearchIndexService.index(user);
+                nicknameAutocompleteIndex.syncAfterCommit(user);
+
+                // 상태/프로필 변경 반영
+                cacheInvalidationService.invalidateUserInfoCache(user.getUserId(), user.getEmail());
             } else if (user.getStatus() == User.UserStatus.SUSPENDED) {
                 // 정지된 계정은 재가입 불가
                 throw new IllegalArgumentException("정지된 계정입니다");
@@ -349,6 +327,7 @@ public class AuthService {
                     user.setEmailVerified(true);
                     user.setEmailVerifiedAt(LocalDateTime.now());
                 }
+                cacheInvalidationService.invalidateUserInfoCache(user.getUserId(), user.getEmail());
             }
         } else {
             // 신규 사용자인 경우: 회원가입
@@ -382,6 +361,11 @@ public class AuthService {
 
             user = userRepository.save(user);
             log.info("New user created with ID: {}", user.getUserId());
+            userSearchIndexService.index(user);
+            nicknameAutocompleteIndex.syncAfterCommit(user);
+
+            // 이전에 캐시된 "사용자 없음" tombstone 제거
+            cacheInvalidationService.invalidateNegativeLookups(user.getUserId(), user.getEmail());
         }
 
         // 4. JWT 토큰 생성
@@ -398,28 +382,8 @@ public class AuthService {
         userRepository.save(user);
 
         // Refresh Token 메타정보 캐싱 (Redis)
-        // Redis 연결 실패 시에도 로그인은 정상 진행되도록 예외 처리
-        try {
-            String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(user.getUserId());
-            RefreshTokenCache tokenCache = RefreshTokenCache.builder()
-                .userId(user.getUserId())
-                .token(jwtRefreshToken)
-                .isValid(true)
-                .expiredAt(LocalDateTime.now().plusDays(7))
-                .build();
-            redisTemplate.opsForValue().set(
-                refreshTokenKey,
-                tokenCache,
-                7,
-                TimeUnit.DAYS
-            );
-            log.debug("Refresh token cached in Redis for user: {}", user.getUserId());
-        } catch (Exception e) {
-            // Redis 연결 실패 시 로그만 남기고 계속 진행
-            // DB에 Refresh Token이 저장되어 있으므로 로그인은 정상 동작
-            log.warn("Failed to cache refresh token in Redis for user: {}. Error: {}. Login will continue.", 
-                user.getUserId(), e.getMessage());
-        }
+        // Redis 장애 시에도 DB에 Refresh Token이 저장되어 있으므로 로그인은 정상 동작
+        cacheRefreshToken(user.getUserId(), jwtRefreshToken);
 
         log.info("Kakao login successful. User ID: {}", user.getUserId());
 
@@ -434,4 +398,23 @@ public class AuthService {
                 .expiresAt(LocalDateTime.now().plusHours(1))
                 .build();
     }
+
+    /**
+     * Refresh Token 메타정보 캐싱 (7일)
+     * 회로가 열려 있거나 Redis 오류 시 건너뜀
+     */
+    private void cacheRefreshToken(Long userId, String refreshToken) {
+        String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(userId);
+        RefreshTokenCache tokenCache = RefreshTokenCache.builder()
+            .userId(userId)
+            .token(refreshToken)
+            .isValid(true)
+            .expiredAt(LocalDateTime.now().plusDays(7))
+            .build();
+
+        cacheCircuitBreaker.run("cache refresh token " + refreshTokenKey, () -> {
+            redisTemplate.opsForValue().set(refreshTokenKey, tokenCache, 7, TimeUnit.DAYS);
+            log.debug("Refresh token cached in Redis for user: {}", userId);
+        });
+    }
 }
@@ -1,39 +1,178 @@
 package com.company.account.service;
 
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.config.CacheConfig;
 import com.company.account.util.CacheKeyGenerator;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Cache invalidation service
  * Manages cache invalidation when user data changes
+ *
+ * All keys touched by one mutation are collected and enqueued after the
+ * transaction commits. A single background worker drains the bounded queue
+ * and removes the keys with one pipelined UNLINK per batch, retrying with
+ * backoff until Valkey accepts them. If the queue is full the caller falls
+ * back to a synchronous UNLINK so that no eviction is silently dropped.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CacheInvalidationService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheKeyGenerator cacheKeyGenerator;
+    private final HotKeyLocalCache hotKeyLocalCache;
+    private final BlockingQueue<String> pendingKeys;
+    // 큐에 등록되었지만 아직 UNLINK 되지 않은 키 수 (워커가 처리 중인 배치 포함)
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private final Counter unlinkedKeys;
+    private final Counter failedAttempts;
+    private final Counter inlineFallbacks;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public CacheInvalidationService(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheKeyGenerator cacheKeyGenerator,
+            HotKeyLocalCache hotKeyLocalCache,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.queue-capacity:10000}") int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.hotKeyLocalCache = hotKeyLocalCache;
+        this.pendingKeys = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("cache.invalidation.queue.size", outstanding, AtomicInteger::get)
+            .description("Cache keys waiting to be unlinked")
+            .register(meterRegistry);
+        this.unlinkedKeys = Counter.builder("cache.invalidation.keys")
+            .description("Cache keys unlinked by the invalidation worker")
+            .register(meterRegistry);
+        this.failedAttempts = Counter.builder("cache.invalidation.failures")
+            .description("Failed UNLINK batches (retried)")
+            .register(meterRegistry);
+        this.inlineFallbacks = Counter.builder("cache.invalidation.inline")
+            .description("Invalidations executed on the caller thread because the queue was full")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startWorker() {
+        worker = new Thread(this::drainLoop, "cache-invalidation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stopWorker() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 전 남은 키 마지막 시도
+        if (!flush(Duration.ofSeconds(5))) {
+            log.warn("Dropping {} cache keys on shutdown; they will expire by TTL", outstanding.get());
+        }
+    }
+
+    /**
+     * 대기 중인 키를 호출 스레드에서 즉시 UNLINK 하고 워커가 처리 중인 배치가 끝날 때까지 대기
+     *
+     * @return timeout 안에 모든 키가 제거되었으면 true
+     */
+    public boolean flush(Duration timeout) {
+        List<String> remaining = new ArrayList<>();
+        pendingKeys.drainTo(remaining);
+        if (!remaining.isEmpty() && unlink(remaining)) {
+            outstanding.addAndGet(-remaining.size());
+        } else {
+            remaining.forEach(pendingKeys::offer);
+        }
+
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (outstanding.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return outstanding.get() == 0;
+    }
 
     /**
      * Invalidate all user-related caches
      * Called when user data is updated or deleted
      */
-    public void invalidateUserCaches(Long userId) {
+    public void invalidateUserCaches(Long userId, String email) {
         log.info("Invalidating all caches for user: {}", userId);
 
-        // Invalidate user info cache
-        String userKey = cacheKeyGenerator.userKey(userId);
-        redisTemplate.delete(userKey);
+        afterCommit(() -> evictPinned(userId, email));
+        enqueueAfterCommit(List.of(
+            cacheKeyGenerator.userKey(userId),
+            cacheKeyGenerator.userEmailKey(email),
+            cacheKeyGenerator.userResponseBodyKey(userId),
+            cacheKeyGenerator.userValidatorKey(userId),
+            cacheKeyGenerator.userPublicKey(userId),
+            cacheKeyGenerator.refreshTokenKey(userId)));
+    }
 
-        // Invalidate refresh token cache
-        String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(userId);
-        redisTemplate.delete(refreshTokenKey);
+    /**
+     * Invalidate all user-related caches for many users at once (bulk status changes)
+     * 모든 키를 한 번에 큐에 넣으므로 워커가 파이프라인 UNLINK 배치로 묶어 삭제한다.
+     */
+    public void invalidateUserCaches(Map<Long, String> emailsByUserId) {
+        log.info("Invalidating all caches for {} users", emailsByUserId.size());
 
-        log.debug("Invalidated caches - user: {}, refreshToken: {}", userKey, refreshTokenKey);
+        afterCommit(() -> emailsByUserId.forEach(this::evictPinned));
+        List<String> keys = new ArrayList<>(emailsByUserId.size() * 6);
+        emailsByUserId.forEach((userId, email) -> {
+            keys.add(cacheKeyGenerator.userKey(userId));
+            keys.add(cacheKeyGenerator.userEmailKey(email));
+            keys.add(cacheKeyGenerator.userResponseBodyKey(userId));
+            keys.add(cacheKeyGenerator.userValidatorKey(userId));
+            keys.add(cacheKeyGenerator.userPublicKey(userId));
+            keys.add(cacheKeyGenerator.refreshTokenKey(userId));
+        });
+        enqueueAfterCommit(keys);
     }
 
     /**
@@ -43,10 +182,7 @@ public class CacheInvalidationService {
     public void invalidateTokenValidationCache(String token) {
         log.info("Invalidating token validation cache");
 
-        String tokenKey = cacheKeyGenerator.tokenValidationKey(token);
-        redisTemplate.delete(tokenKey);
-
-        log.debug("Invalidated token validation cache: {}", tokenKey);
+        enqueueAfterCommit(List.of(cacheKeyGenerator.tokenValidationKey(token)));
     }
 
     /**
@@ -56,22 +192,182 @@ public class CacheInvalidationService {
     public void invalidateRefreshTokenCache(Long userId) {
         log.info("Invalidating refresh token cache for user: {}", userId);
 
-        String refreshTokenKey = cacheKeyGenerator.refreshTokenKey(userId);
-        redisTemplate.delete(refreshTokenKey);
-
-        log.debug("Invalidated refresh token cache: {}", refreshTokenKey);
+        enqueueAfterCommit(List.of(cacheKeyGenerator.refreshTokenKey(userId)));
     }
 
     /**
-     * Invalidate user info cache only
+     * Invalidate user info caches (by id and by email) only
      * Called when user profile is updated
      */
-    public void invalidateUserInfoCache(Long userId) {
+    public void invalidateUserInfoCache(Long userId, String email) {
         log.info("Invalidating user info cache for user: {}", userId);
 
-        String userKey = cacheKeyGenerator.userKey(userId);
-        redisTemplate.delete(userKey);
+        afterCommit(() -> evictPinned(userId, email));
+        enqueueAfterCommit(List.of(
+            cacheKeyGenerator.userKey(userId),
+            cacheKeyGenerator.userEmailKey(email),
+            cacheKeyGenerator.userResponseBodyKey(userId),
+            cacheKeyGenerator.userValidatorKey(userId),
+            cacheKeyGenerator.userPublicKey(userId)));
+    }
+
+    /**
+     * Invalidate views derived from the user entry (HTTP response body, public profile)
+     * Called when user info caches are written through instead of evicted
+     */
+    public void invalidateUserDerivedViews(Long userId) {
+        enqueueAfterCommit(List.of(
+            cacheKeyGenerator.userResponseBodyKey(userId),
+            cacheKeyGenerator.userPublicKey(userId)));
+    }
+
+    /**
+     * Invalidate public profile only
+     * Called when a review changes the user's rating
+     */
+    public void invalidatePublicProfile(Long userId) {
+        enqueueAfterCommit(List.of(cacheKeyGenerator.userPublicKey(userId)));
+    }
+
+    /**
+     * Invalidate not-found tombstones for a user id and email
+     * Called when a user is created, after the transaction commits
+     */
+    public void invalidateNegativeLookups(Long userId, String email) {
+        enqueueAfterCommit(List.of(
+            cacheKeyGenerator.userMissingKey(userId),
+            cacheKeyGenerator.userEmailMissingKey(email)));
+    }
+
+    /**
+     * Invalidate not-found tombstones for many created users at once (bulk import)
+     */
+    public void invalidateNegativeLookups(Map<Long, String> emailsByUserId) {
+        List<String> keys = new ArrayList<>(emailsByUserId.size() * 2);
+        emailsByUserId.forEach((userId, email) -> {
+            keys.add(cacheKeyGenerator.userMissingKey(userId));
+            keys.add(cacheKeyGenerator.userEmailMissingKey(email));
+        });
+        enqueueAfterCommit(keys);
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋 이후, 없으면 즉시 큐에 등록
+     * (커밋 전에 지우면 동시 조회가 이전 값을 다시 캐싱할 수 있음)
+     */
+    private void enqueueAfterCommit(Collection<String> keys) {
+        // 이 요청의 이후 조회는 replica 대신 primary 에서 (read-your-writes)
+        ReadYourWrites.markWrite();
+        afterCommit(() -> enqueue(keys));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 이 인스턴스의 L1 에 pin 된 사용자 엔트리 즉시 해제
+     * (다른 인스턴스는 proactive refresh 에서 Valkey 키가 사라진 것을 보고 해제)
+     */
+    private void evictPinned(Long userId, String email) {
+        hotKeyLocalCache.evict(CacheConfig.CACHE_USER, userId);
+        hotKeyLocalCache.evict(CacheConfig.CACHE_USER_EMAIL, email);
+    }
+
+    private void enqueue(Collection<String> keys) {
+        List<String> overflow = new ArrayList<>();
+        for (String key : keys) {
+            if (pendingKeys.offer(key)) {
+                outstanding.incrementAndGet();
+            } else {
+                overflow.add(key);
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            // 큐가 가득 찬 경우 요청 스레드에서 직접 삭제 (eviction 유실 방지)
+            inlineFallbacks.increment();
+            log.warn("Cache invalidation queue is full. Unlinking {} keys inline", overflow.size());
+            if (!unlink(overflow)) {
+                log.error("Failed to unlink cache keys inline: {}. They will expire by TTL", overflow);
+            }
+        }
+        log.debug("Enqueued cache keys for invalidation: {}", keys);
+    }
+
+    private void drainLoop() {
+        // 같은 키가 여러 번 등록되어도 한 번만 UNLINK
+        Set<String> batch = new LinkedHashSet<>();
+        int taken = 0;
+        long backoff = INITIAL_BACKOFF_MILLIS;
+
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    String first = pendingKeys.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    taken = 1;
+                }
+                List<String> drained = new ArrayList<>();
+                pendingKeys.drainTo(drained, Math.max(0, MAX_BATCH_SIZE - batch.size()));
+                batch.addAll(drained);
+                taken += drained.size();
+
+                if (unlink(batch)) {
+                    outstanding.addAndGet(-taken);
+                    batch.clear();
+                    taken = 0;
+                    backoff = INITIAL_BACKOFF_MILLIS;
+                } else {
+                    // 실패한 배치는 유지하고 backoff 후 새로 쌓인 키와 함께 재시도
+                    failedAttempts.increment();
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                    backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // 처리하지 못한 배치는 종료 시 flush 할 수 있도록 큐에 되돌림
+        outstanding.addAndGet(batch.size() - taken);
+        batch.forEach(pendingKeys::offer);
+    }
+
+    /**
+     * 한 번의 파이프라인으로 모든 키를 UNLINK (비동기 메모리 해제)
+     */
+    private boolean unlink(Collection<String> keys) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                unlinkAll(connection, keys);
+                return null;
+            });
+            unlinkedKeys.increment(keys.size());
+            log.debug("Unlinked cache keys: {}", keys);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to unlink {} cache keys. Error: {}", keys.size(), e.getMessage());
+            return false;
+        }
+    }
 
-        log.debug("Invalidated user info cache: {}", userKey);
+    private void unlinkAll(RedisConnection connection, Collection<String> keys) {
+        for (String key : keys) {
+            connection.keyCommands().unlink(key.getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
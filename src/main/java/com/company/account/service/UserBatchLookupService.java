@@ -0,0 +1,204 @@
+package com.company.account.service;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheFillReads;
+import com.company.account.cache.CacheRefresher;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.CachedValue;
+import com.company.account.cache.RedisReadRouting;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.config.CacheConfig;
+import com.company.account.dto.UserBatchResponse;
+import com.company.account.dto.UserRequest;
+import com.company.account.dto.UserResponse;
+import com.company.account.repository.UserRepository;
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 사용자 일괄 조회
+ * 1. 캐시 키 + tombstone 키를 MGET 1회로 조회
+ * 2. 캐시 미스만 IN 쿼리 1회로 DB 조회
+ * 3. 조회 결과(및 없는 키의 tombstone)를 파이프라인으로 한 번에 캐시에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBatchLookupService {
+
+    private final UserRepository userRepository;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheManager cacheManager;
+    private final CacheRefresher cacheRefresher;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final UserCacheWriter userCacheWriter;
+    private final RedisReadRouting redisReadRouting;
+
+    @Transactional(readOnly = true)
+    public UserBatchResponse lookup(UserRequest.BatchLookup request) {
+        List<Long> userIds = distinct(request.getUserIds());
+        List<String> emails = distinct(request.getEmails());
+
+        if (userIds.isEmpty() && emails.isEmpty()) {
+            throw new IllegalArgumentException("조회할 userIds 또는 emails를 입력해주세요");
+        }
+
+        log.info("Batch lookup - userIds: {}, emails: {}", userIds.size(), emails.size());
+
+        List<UserBatchResponse.Item> results = new ArrayList<>();
+        if (!userIds.isEmpty()) {
+            results.addAll(resolve(
+                    userIds,
+                    CacheConfig.CACHE_USER,
+                    cacheKeyGenerator::userKey,
+                    cacheKeyGenerator::userMissingKey,
+                    userRepository::findResponsesByIdIn,
+                    UserResponse::getUserId));
+        }
+        if (!emails.isEmpty()) {
+            results.addAll(resolve(
+                    emails,
+                    CacheConfig.CACHE_USER_EMAIL,
+                    cacheKeyGenerator::userEmailKey,
+                    cacheKeyGenerator::userEmailMissingKey,
+                    userRepository::findResponsesByEmailIn,
+                    UserResponse::getEmail));
+        }
+
+        int foundCount = (int) results.stream().filter(UserBatchResponse.Item::isFound).count();
+
+        return UserBatchResponse.builder()
+                .results(results)
+                .foundCount(foundCount)
+                .notFoundCount(results.size() - foundCount)
+                .build();
+    }
+
+    private <K> List<UserBatchResponse.Item> resolve(
+            List<K> keys,
+            String cacheName,
+            Function<K, String> cacheKey,
+            Function<K, String> tombstoneKey,
+            Function<Collection<K>, List<UserResponse>> loader,
+            Function<UserResponse, K> keyOf) {
+
+        Map<K, UserResponse> found = new LinkedHashMap<>();
+        List<K> misses = new ArrayList<>();
+
+        // 1. 캐시 엔트리와 tombstone 을 한 번의 MGET 으로 조회
+        List<Object> cached = multiGet(keys, cacheKey, tombstoneKey);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < keys.size(); i++) {
+            K key = keys.get(i);
+            Object entry = cached.get(i * 2);
+            Object tombstone = cached.get(i * 2 + 1);
+
+            if (entry instanceof CachedValue cachedValue && cachedValue.getValue() instanceof UserResponse user) {
+                found.put(key, user);
+                cacheTtlPolicy.recordRead(cacheName, key);
+                if (cachedValue.isStaleAt(now)) {
+                    // stale 엔트리는 즉시 제공하고 단건 갱신은 CacheRefresher 에 위임
+                    cacheRefresher.onStaleServed(cacheName, key, refreshed -> refreshEntry(cacheName, key, refreshed));
+                }
+            } else if (entry instanceof UserResponse legacyUser) {
+                found.put(key, legacyUser);
+            } else if (tombstone == null) {
+                misses.add(key);
+            }
+        }
+
+        // 2. 캐시 미스만 IN 쿼리 1회로 조회 (UserResponse projection)
+        if (!misses.isEmpty()) {
+            log.debug("Batch lookup cache misses for {}: {}", cacheName, misses.size());
+
+            UserCacheWriter.Batch backfill = userCacheWriter.batch();
+            // MySQL 비교는 대소문자를 구분하지 않으므로 이메일 매칭도 대소문자 무시
+            Map<String, UserResponse> loaded = new HashMap<>();
+            // 캐시에 채울 값이므로 primary 에서 조회 (replica 의 무효화 이전 행이 다시 캐시되지 않도록)
+            for (UserResponse user : CacheFillReads.call(() -> loader.apply(misses))) {
+                loaded.put(normalize(keyOf.apply(user)), user);
+            }
+
+            for (K key : misses) {
+                UserResponse response = loaded.get(normalize(key));
+                if (response == null) {
+                    backfill.tombstone(tombstoneKey.apply(key));
+                    continue;
+                }
+                found.put(key, response);
+                // id/이메일 두 조회 뷰를 함께 채움 (엔트리별 adaptive TTL + jitter)
+                backfill.user(response);
+            }
+
+            // 3. 파이프라인으로 한 번에 캐시 기록
+            backfill.execute();
+        }
+
+        List<UserBatchResponse.Item> items = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            UserResponse user = found.get(key);
+            items.add(user != null
+                    ? UserBatchResponse.Item.found(String.valueOf(key), user)
+                    : UserBatchResponse.Item.notFound(String.valueOf(key)));
+        }
+        return items;
+    }
+
+    private <K> List<Object> multiGet(List<K> keys, Function<K, String> cacheKey, Function<K, String> tombstoneKey) {
+        List<String> redisKeys = new ArrayList<>(keys.size() * 2);
+        for (K key : keys) {
+            redisKeys.add(cacheKey.apply(key));
+            redisKeys.add(tombstoneKey.apply(key));
+        }
+
+        // Redis 장애 또는 회로 OPEN 시 전부 캐시 미스로 처리 (DB 조회로 진행)
+        List<Object> values = cacheCircuitBreaker.call("MGET user cache entries",
+                () -> redisReadRouting.readTemplate().opsForValue().multiGet(redisKeys), null);
+        if (values != null && values.size() == redisKeys.size()) {
+            return values;
+        }
+        return Collections.nCopies(redisKeys.size(), null);
+    }
+
+    private void refreshEntry(String cacheName, Object key, Object refreshed) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (refreshed == null) {
+            cache.evict(key);
+        } else {
+            cache.put(key, refreshed);
+        }
+    }
+
+    private static String normalize(Object key) {
+        return String.valueOf(key).toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<T> distinct(List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(values.stream().filter(Objects::nonNull).toList()));
+    }
+}
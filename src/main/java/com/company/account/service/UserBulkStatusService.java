@@ -0,0 +1,117 @@
+package com.company.account.service;
+
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.dto.UserBulkStatusResponse;
+import com.company.account.dto.UserRequest;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User.UserStatus;
+import com.company.account.event.UserStatusChangedEvent;
+import com.company.account.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자 일괄 상태 변경 (정지 / 활성화 / 탈퇴)
+ * - 대상 조회 1회 (projection) + set-based UPDATE 1회, 사용자마다 엔티티를 로드/저장하지 않음
+ * - 캐시 무효화 / 닉네임 인덱스 반영 / 이벤트 발행은 배치 전체를 묶어 커밋 후에 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkStatusService {
+
+    private final UserRepository userRepository;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public UserBulkStatusResponse suspendUsers(UserRequest.BulkStatusChange request) {
+        return changeStatus(request.getUserIds(), UserStatus.SUSPENDED);
+    }
+
+    @Transactional
+    public UserBulkStatusResponse activateUsers(UserRequest.BulkStatusChange request) {
+        return changeStatus(request.getUserIds(), UserStatus.ACTIVE);
+    }
+
+    @Transactional
+    public UserBulkStatusResponse deleteUsers(UserRequest.BulkStatusChange request) {
+        return changeStatus(request.getUserIds(), UserStatus.DELETED);
+    }
+
+    private UserBulkStatusResponse changeStatus(List<Long> requestedIds, UserStatus status) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Long userId : requestedIds) {
+            if (userId == null) {
+                throw new IllegalArgumentException("userIds에 null 을 포함할 수 없습니다");
+            }
+            userIds.add(userId);
+        }
+        log.info("Bulk changing status to {} for {} users", status, userIds.size());
+
+        Map<Long, UserResponse> found = new LinkedHashMap<>();
+        for (UserResponse user : userRepository.findResponsesByIdIn(userIds)) {
+            found.put(user.getUserId(), user);
+        }
+
+        List<Long> notFound = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<UserResponse> targets = new ArrayList<>();
+        for (Long userId : userIds) {
+            UserResponse user = found.get(userId);
+            if (user == null) {
+                notFound.add(userId);
+            } else if (user.getStatus() == status) {
+                unchanged.add(userId);
+            } else {
+                targets.add(user);
+            }
+        }
+
+        int updated = 0;
+        if (!targets.isEmpty()) {
+            List<Long> targetIds = targets.stream().map(UserResponse::getUserId).toList();
+            LocalDateTime now = LocalDateTime.now();
+            updated = switch (status) {
+                // 재활성화 시 deletedAt 초기화
+                case ACTIVE -> userRepository.updateStatusAndDeletedAtIn(targetIds, status, null, now);
+                case DELETED -> userRepository.updateStatusAndDeletedAtIn(targetIds, status, now, now);
+                case SUSPENDED -> userRepository.updateStatusIn(targetIds, status, now);
+            };
+
+            nicknameAutocompleteIndex.syncStatusAfterCommit(targets, status);
+
+            // 상태는 캐시된 사용자 정보 / 토큰 검증 결과에 모두 반영되므로 사용자 캐시 전체를 무효화
+            Map<Long, String> emailsByUserId = new LinkedHashMap<>();
+            for (UserResponse user : targets) {
+                emailsByUserId.put(user.getUserId(), user.getEmail());
+            }
+            cacheInvalidationService.invalidateUserCaches(emailsByUserId);
+
+            eventPublisher.publishEvent(new UserStatusChangedEvent(targetIds, status, now));
+        }
+
+        log.info("Bulk status change to {} - requested: {}, updated: {}, unchanged: {}, not found: {}",
+                status, userIds.size(), updated, unchanged.size(), notFound.size());
+
+        return UserBulkStatusResponse.builder()
+                .status(status)
+                .requestedCount(userIds.size())
+                .updatedCount(updated)
+                .unchangedUserIds(unchanged)
+                .notFoundUserIds(notFound)
+                .build();
+    }
+}
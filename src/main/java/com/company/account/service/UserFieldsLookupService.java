@@ -0,0 +1,92 @@
+package com.company.account.service;
+
+import com.company.account.cache.NegativeLookupCache;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.config.CacheConfig;
+import com.company.account.dto.UserFieldSet;
+import com.company.account.dto.UserResponse;
+import com.company.account.repository.UserRepository;
+import com.company.account.util.CacheKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sparse fieldset 조회 (fields= 파라미터)
+ * 캐시 히트 경로에서는 트랜잭션 / DB 커넥션을 사용하지 않는다.
+ * 1. 사용자 캐시 히트: 캐시된 전체 응답에서 요청 필드만 추출하여 직렬화
+ * 2. 캐시 미스: 요청 필드 컬럼만 SELECT 하는 projection 으로 조회 (부분 결과는 캐시하지 않음)
+ *
+ * ETag / Last-Modified 는 응답을 만든 사용자 버전 (updatedAt) 으로 만들어야 하므로 결과와 함께 버전을 돌려준다.
+ * 캐시된 응답이 검증자 버전 (minVersion) 보다 오래됐으면 (stale-while-revalidate) 캐시 미스로 보고 DB 에서 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserFieldsLookupService {
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final NegativeLookupCache negativeLookupCache;
+
+    private static final String VERSION_FIELD = "updatedAt";
+
+    /**
+     * 선택 필드와 그 값을 만든 사용자 버전 (updatedAt epoch ms)
+     */
+    public record Fields(Map<String, Object> values, long version) {
+    }
+
+    public Fields getUserFieldsById(Long userId, long minVersion, UserFieldSet fieldSet) {
+        return lookup(CacheConfig.CACHE_USER, userId, "userId", cacheKeyGenerator.userMissingKey(userId),
+                minVersion, fieldSet);
+    }
+
+    public Map<String, Object> getUserFieldsByEmail(String email, UserFieldSet fieldSet) {
+        return lookup(CacheConfig.CACHE_USER_EMAIL, email, "email", cacheKeyGenerator.userEmailMissingKey(email),
+                0L, fieldSet).values();
+    }
+
+    private Fields lookup(String cacheName, Object key, String attribute,
+                          String tombstoneKey, long minVersion, UserFieldSet fieldSet) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            UserResponse cached = cache.get(key, UserResponse.class);
+            if (cached != null && UserCacheWriter.versionOf(cached) >= minVersion) {
+                return new Fields(fieldSet.project(cached), UserCacheWriter.versionOf(cached));
+            }
+        }
+
+        if (negativeLookupCache.isMissing(tombstoneKey)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + key);
+        }
+
+        log.info("Fetching user fields {} with {}: {}", fieldSet.key(), attribute, key);
+        // 버전 계산을 위해 updatedAt 을 함께 조회하고, 요청하지 않았으면 응답에서는 뺀다
+        List<String> columns = new ArrayList<>(fieldSet.fields());
+        if (!columns.contains(VERSION_FIELD)) {
+            columns.add(VERSION_FIELD);
+        }
+        Optional<Map<String, Object>> row = userRepository.findFieldsBy(attribute, key, columns);
+        if (row.isEmpty()) {
+            negativeLookupCache.markMissing(tombstoneKey);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + key);
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fieldSet.fields()) {
+            values.put(field, row.get().get(field));
+        }
+        return new Fields(values, UserCacheWriter.versionOf((LocalDateTime) row.get().get(VERSION_FIELD)));
+    }
+}
@@ -0,0 +1,413 @@
+package com.company.account.service;
+
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.dto.UserImportResult;
+import com.company.account.dto.UserRequest;
+import com.company.account.entity.User;
+import com.company.account.entity.User.SocialProvider;
+import com.company.account.repository.UserRepository;
+import com.company.account.util.CsvRowReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 가져오기 (레거시 저장소 이관용, streaming)
+ * 요청 본문 (CSV / NDJSON) 을 한 행씩 읽어 chunk-size 단위로 처리한다.
+ *
+ * chunk 마다:
+ * 1. POST /api/users 와 같은 Bean Validation 검증
+ * 2. 파일 안 중복 + DB 중복 (이메일 / 닉네임) 을 IN 조회 한 번씩으로 확인
+ * 3. 비밀번호 해시 (bcrypt) 를 크기가 제한된 전용 스레드 풀에서 병렬 계산
+ * 4. 한 트랜잭션에서 JDBC 배치 INSERT (SnowflakeId 라 배치 가능) + 검색 색인
+ *
+ * 실패한 행은 건너뛰고 행 번호와 사유를 결과에 담는다. 확인 이후 동시 가입 등으로 배치 INSERT 가
+ * 제약 조건에 걸리면 해당 chunk 만 한 행씩 다시 저장해 실패 행을 찾는다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final Set<String> REQUIRED_CSV_COLUMNS = Set.of("email", "password", "name");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserSearchIndexService userSearchIndexService;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final int maxFieldLength;
+    private final ExecutorService hashExecutor;
+
+    public UserImportService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            UserSearchIndexService userSearchIndexService,
+            NicknameAutocompleteIndex nicknameAutocompleteIndex,
+            CacheInvalidationService cacheInvalidationService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.user-import.chunk-size:500}") int chunkSize,
+            @Value("${app.user-import.max-errors:1000}") int maxErrors,
+            @Value("${app.user-import.max-field-length:" + CsvRowReader.DEFAULT_MAX_FIELD_LENGTH + "}") int maxFieldLength,
+            @Value("${app.user-import.hash-threads:0}") int hashThreads) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.userSearchIndexService = userSearchIndexService;
+        this.nicknameAutocompleteIndex = nicknameAutocompleteIndex;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxFieldLength = maxFieldLength;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-import-hash-");
+        threadFactory.setDaemon(true);
+        // 기본값은 코어의 절반 (가져오기 중에도 요청 처리 / 로그인 bcrypt 에 쓸 코어를 남김)
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    public UserImportResult importUsers(InputStream in, Format format) {
+        log.info("Importing users - format: {}, chunk size: {}", format, chunkSize);
+
+        Run run = new Run();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            RowSource source = format == Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            Row row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, run);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 가져오기 중 오류가 발생했습니다", e);
+        }
+
+        log.info("Imported users - total: {}, imported: {}, failed: {}", run.total, run.imported, run.failed);
+        return UserImportResult.builder()
+                .totalRows(run.total)
+                .importedCount(run.imported)
+                .failedCount(run.failed)
+                .errors(run.errors)
+                .errorsTruncated(run.failed > run.errors.size())
+                .build();
+    }
+
+    private void processChunk(List<Row> rows, Run run) {
+        run.total += rows.size();
+
+        // 1. 파싱 / 검증 실패 제외
+        List<Row> valid = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.error() != null) {
+                run.fail(row, row.error());
+                continue;
+            }
+            Set<ConstraintViolation<UserRequest.Create>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                run.fail(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+            valid.add(row);
+        }
+
+        // 2. 중복 확인 (파일 안, DB) - MySQL collation 과 같게 대소문자 구분 없이 비교
+        valid = rejectDuplicates(valid, run);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 3. 비밀번호 해시 병렬 계산
+        List<CompletableFuture<String>> hashes = valid.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(row.request().getPassword()), hashExecutor))
+                .toList();
+        Map<Row, String> passwordHashes = new LinkedHashMap<>();
+        for (int i = 0; i < valid.size(); i++) {
+            passwordHashes.put(valid.get(i), hashes.get(i).join());
+        }
+
+        // 4. 배치 INSERT, 제약 조건 위반 시 한 행씩 다시 시도
+        try {
+            save(passwordHashes);
+            run.imported += passwordHashes.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Batch insert of {} imported users failed. Retrying row by row. Error: {}",
+                    passwordHashes.size(), e.getMostSpecificCause().getMessage());
+            passwordHashes.forEach((row, passwordHash) -> {
+                try {
+                    save(Map.of(row, passwordHash));
+                    run.imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    run.fail(row, "이미 존재하는 이메일 또는 닉네임입니다");
+                }
+            });
+        }
+    }
+
+    private List<Row> rejectDuplicates(List<Row> rows, Run run) {
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        List<Row> unique = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String nickname = row.request().getNickname();
+            if (!emails.add(lower(row.request().getEmail()))) {
+                run.fail(row, "파일 안에서 중복된 이메일입니다: " + row.request().getEmail());
+            } else if (nickname != null && !nicknames.add(lower(nickname))) {
+                run.fail(row, "파일 안에서 중복된 닉네임입니다: " + nickname);
+            } else {
+                unique.add(row);
+            }
+        }
+        if (unique.isEmpty()) {
+            return unique;
+        }
+
+        Set<String> existingEmails = lowerAll(userRepository.findExistingEmails(
+                unique.stream().map(row -> row.request().getEmail()).toList()));
+        List<String> requestedNicknames = unique.stream()
+                .map(row -> row.request().getNickname())
+                .filter(nickname -> nickname != null)
+                .toList();
+        Set<String> existingNicknames = requestedNicknames.isEmpty()
+                ? Set.of()
+                : lowerAll(userRepository.findExistingNicknames(requestedNicknames));
+
+        List<Row> accepted = new ArrayList<>(unique.size());
+        for (Row row : unique) {
+            String nickname = row.request().getNickname();
+            if (existingEmails.contains(lower(row.request().getEmail()))) {
+                run.fail(row, "이미 존재하는 이메일입니다: " + row.request().getEmail());
+            } else if (nickname != null && existingNicknames.contains(lower(nickname))) {
+                run.fail(row, "이미 존재하는 닉네임입니다: " + nickname);
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 한 트랜잭션에서 저장 + 색인. 엔티티는 매번 새로 만든다 (실패한 트랜잭션에서 ID 가 배정된 객체는 재사용하지 않음)
+     */
+    private void save(Map<Row, String> passwordHashes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = passwordHashes.entrySet().stream()
+                    .map(entry -> toUser(entry.getKey().request(), entry.getValue()))
+                    .toList();
+            userRepository.saveAllAndFlush(users);
+            userSearchIndexService.indexNew(users);
+            nicknameAutocompleteIndex.syncAllAfterCommit(users);
+
+            Map<Long, String> emailsByUserId = new HashMap<>();
+            users.forEach(user -> emailsByUserId.put(user.getUserId(), user.getEmail()));
+            cacheInvalidationService.invalidateNegativeLookups(emailsByUserId);
+        });
+    }
+
+    private User toUser(UserRequest.Create request, String passwordHash) {
+        return User.builder()
+                .email(request.getEmail())
+                .password(passwordHash)
+                .name(request.getName())
+                .nickname(request.getNickname())
+                .profileImageUrl(request.getProfileImageUrl())
+                .provider(request.getProvider())
+                .build();
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber[0]++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    UserRequest.Create request = objectMapper.readValue(line, UserRequest.Create.class);
+                    return request != null
+                            ? Row.of(lineNumber[0], request)
+                            : Row.invalid(lineNumber[0], "사용자 정보가 없습니다");
+                } catch (JsonProcessingException e) {
+                    return Row.invalid(lineNumber[0], "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 첫 행은 헤더 (email, password, name 필수 / nickname, profileImageUrl, provider 선택, 순서 무관)
+     */
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvRowReader csv = new CsvRowReader(reader, maxFieldLength);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // 내보내기 (GET /api/users/export) 파일의 UTF-8 BOM 제거
+            columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new IllegalArgumentException("CSV 헤더에 email, password, name 컬럼이 필요합니다");
+        }
+
+        long[] rowNumber = {0};
+        return () -> {
+            while (true) {
+                List<String> values;
+                try {
+                    values = csv.next();
+                } catch (CsvRowReader.MalformedRecordException e) {
+                    // 깨진 레코드 하나로 가져오기 전체를 중단하지 않고 행 오류로 기록한 뒤 다음 레코드부터 계속
+                    rowNumber[0]++;
+                    return Row.invalid(rowNumber[0], e.getMessage());
+                }
+                if (values == null) {
+                    return null;
+                }
+                rowNumber[0]++;
+                if (values.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                try {
+                    return Row.of(rowNumber[0], UserRequest.Create.builder()
+                            .email(cell(values, columns, "email"))
+                            .password(cell(values, columns, "password"))
+                            .name(cell(values, columns, "name"))
+                            .nickname(cell(values, columns, "nickname"))
+                            .profileImageUrl(cell(values, columns, "profileImageUrl"))
+                            .provider(provider(cell(values, columns, "provider")))
+                            .build());
+                } catch (IllegalArgumentException e) {
+                    return Row.invalid(rowNumber[0], e.getMessage());
+                }
+            }
+        };
+    }
+
+    private static String cell(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static SocialProvider provider(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return SocialProvider.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 provider 입니다: " + value);
+        }
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> lowerAll(List<String> values) {
+        return values.stream().map(UserImportService::lower).collect(Collectors.toSet());
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        Row next() throws IOException;
+    }
+
+    private record Row(long number, UserRequest.Create request, String error) {
+
+        static Row of(long number, UserRequest.Create request) {
+            return new Row(number, request, null);
+        }
+
+        static Row invalid(long number, String error) {
+            return new Row(number, null, error);
+        }
+
+        String email() {
+            return request != null ? request.getEmail() : null;
+        }
+    }
+
+    /**
+     * 한 번의 가져오기 진행 상황 (요청 스레드에서만 사용)
+     */
+    private class Run {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<UserImportResult.RowError> errors = new ArrayList<>();
+
+        void fail(Row row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportResult.RowError(row.number(), row.email(), message));
+            }
+        }
+    }
+}
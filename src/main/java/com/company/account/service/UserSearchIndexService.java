@@ -0,0 +1,220 @@
+package com.company.account.service;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.entity.User;
+import com.company.account.entity.UserSearchGram;
+import com.company.account.repository.UserRepository;
+import com.company.account.repository.UserSearchGramRepository;
+import com.company.account.util.CacheKeyGenerator;
+import com.company.account.util.NGramTokenizer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자 검색 n-gram 색인 관리
+ * 이름 / 이메일 / 닉네임이 바뀌는 쓰기 경로에서 같은 트랜잭션으로 색인을 갱신하고,
+ * 기동 시에는 아직 색인되지 않은 사용자를 페이지 단위로 채운다 (기존 데이터 backfill).
+ *
+ * backfill 은 기동 스레드를 막지 않도록 백그라운드에서 실행하고, Valkey 분산 락
+ * (lock:search-index-backfill) 을 잡은 인스턴스 하나만 수행한다. 락은 페이지마다 연장하며,
+ * 락을 잡지 못하거나 Valkey 를 쓸 수 없으면 건너뛴다 (쓰기 경로는 그대로 색인을 갱신).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSearchIndexService {
+
+    /**
+     * KEYS[1] 락 키, ARGV[1] 보유자, ARGV[2] TTL (ms) - 자신이 보유한 락만 연장
+     */
+    private static final byte[] RENEW_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] 락 키, ARGV[1] 보유자 - 자신이 보유한 락만 해제
+     */
+    private static final byte[] RELEASE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final UserRepository userRepository;
+    private final UserSearchGramRepository userSearchGramRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final CacheCircuitBreaker cacheCircuitBreaker;
+
+    private final byte[] lockOwner = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    private ExecutorService backfillExecutor;
+
+    @Value("${app.search.index.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.search.index.backfill-page-size:500}")
+    private int backfillPageSize;
+
+    @Value("${app.search.index.backfill-lock-ttl:5m}")
+    private Duration backfillLockTtl;
+
+    /**
+     * 사용자 색인 갱신 - 바뀐 gram 만 추가 / 삭제
+     */
+    @Transactional
+    public void index(User user) {
+        Set<String> grams = NGramTokenizer.indexGrams(user.getName(), user.getEmail(), user.getNickname());
+        Set<String> existing = new HashSet<>(userSearchGramRepository.findGramsByUserId(user.getUserId()));
+
+        Set<String> removed = new HashSet<>(existing);
+        removed.removeAll(grams);
+        if (!removed.isEmpty()) {
+            userSearchGramRepository.deleteGrams(user.getUserId(), removed);
+        }
+
+        List<UserSearchGram> added = grams.stream()
+                .filter(gram -> !existing.contains(gram))
+                .map(gram -> new UserSearchGram(gram, user.getUserId()))
+                .toList();
+        userSearchGramRepository.saveAll(added);
+
+        log.debug("Indexed user for search - userId: {}, added: {}, removed: {}",
+                user.getUserId(), added.size(), removed.size());
+    }
+
+    /**
+     * 새로 만든 사용자들 색인 (기존 gram 조회 없이 추가만 - 일괄 가져오기용)
+     */
+    @Transactional
+    public void indexNew(Collection<User> users) {
+        List<UserSearchGram> grams = users.stream()
+                .flatMap(user -> NGramTokenizer.indexGrams(user.getName(), user.getEmail(), user.getNickname()).stream()
+                        .map(gram -> new UserSearchGram(gram, user.getUserId())))
+                .toList();
+        userSearchGramRepository.saveAll(grams);
+        log.debug("Indexed {} new users for search - grams: {}", users.size(), grams.size());
+    }
+
+    @Transactional
+    public void remove(Long userId) {
+        userSearchGramRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 기동 완료 후 backfill 을 백그라운드 스레드에서 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("search-index-backfill-");
+        threadFactory.setDaemon(true);
+        backfillExecutor = Executors.newSingleThreadExecutor(threadFactory);
+        backfillExecutor.execute(this::backfill);
+    }
+
+    @PreDestroy
+    void stopBackfill() {
+        if (backfillExecutor != null) {
+            backfillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 색인이 없는 사용자를 userId 순으로 채움 (페이지마다 별도 트랜잭션)
+     * 분산 락을 잡은 인스턴스만 수행하고, 이미 gram 이 있는 사용자는 조회 단계에서 제외된다.
+     */
+    public void backfill() {
+        byte[] lockKey = cacheKeyGenerator.searchIndexBackfillLockKey().getBytes(StandardCharsets.UTF_8);
+        if (!acquireLock(lockKey)) {
+            log.info("Search index backfill is running on another instance or Valkey is unavailable. Skipping");
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long afterId = 0L;
+        int indexed = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<User> users = userRepository.findUnindexedForSearch(afterId, PageRequest.of(0, backfillPageSize));
+                if (users.isEmpty()) {
+                    break;
+                }
+                try {
+                    transaction.executeWithoutResult(status -> users.forEach(this::index));
+                    indexed += users.size();
+                } catch (DataAccessException e) {
+                    log.warn("Failed to backfill user search index page after userId {}. Error: {}", afterId, e.getMessage());
+                }
+                afterId = users.get(users.size() - 1).getUserId();
+
+                if (!renewLock(lockKey)) {
+                    log.warn("Lost search index backfill lock after userId {}. Stopping", afterId);
+                    break;
+                }
+            }
+        } finally {
+            releaseLock(lockKey);
+        }
+
+        if (indexed > 0) {
+            log.info("Backfilled user search index for {} users", indexed);
+        }
+    }
+
+    private boolean acquireLock(byte[] lockKey) {
+        Expiration expiration = Expiration.milliseconds(backfillLockTtl.toMillis());
+        Boolean acquired = cacheCircuitBreaker.call("acquire search index backfill lock",
+                () -> redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                        connection.stringCommands().set(lockKey, lockOwner, expiration, SetOption.SET_IF_ABSENT)),
+                false);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private boolean renewLock(byte[] lockKey) {
+        byte[] ttl = Long.toString(backfillLockTtl.toMillis()).getBytes(StandardCharsets.US_ASCII);
+        Long renewed = cacheCircuitBreaker.call("renew search index backfill lock",
+                () -> redisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.scriptingCommands().eval(RENEW_SCRIPT, ReturnType.INTEGER, 1, lockKey, lockOwner, ttl)),
+                0L);
+        return renewed != null && renewed == 1L;
+    }
+
+    private void releaseLock(byte[] lockKey) {
+        cacheCircuitBreaker.run("release search index backfill lock", () ->
+                redisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.scriptingCommands().eval(RELEASE_SCRIPT, ReturnType.INTEGER, 1, lockKey, lockOwner)));
+    }
+}
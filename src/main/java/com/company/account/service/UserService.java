@@ -1,11 +1,23 @@
 package com.company.account.service;
 
+import com.company.account.cache.CacheFillReads;
+import com.company.account.cache.CacheRefresher;
+import com.company.account.cache.NegativeLookupCache;
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.cache.UserCacheWriter;
 import com.company.account.config.CacheConfig;
+import com.company.account.dto.CursorPage;
+import com.company.account.dto.NicknameSuggestion;
+import com.company.account.dto.PublicProfileResponse;
 import com.company.account.dto.UserRequest;
 import com.company.account.dto.UserResponse;
 import com.company.account.entity.User;
 import com.company.account.entity.User.UserStatus;
 import com.company.account.repository.UserRepository;
+import com.company.account.util.CacheKeyGenerator;
+import com.company.account.util.CursorCodec;
+import com.company.account.util.NGramTokenizer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -18,6 +30,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,9 +39,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_NICKNAME_SUGGESTIONS = 20;
+
     private final UserRepository userRepository;
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
     private final CacheInvalidationService cacheInvalidationService;
+    private final CacheRefresher cacheRefresher;
+    private final NegativeLookupCache negativeLookupCache;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final UserCacheWriter userCacheWriter;
+    private final UserSearchIndexService userSearchIndexService;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
+    /**
+     * Stale 사용자 캐시 백그라운드 갱신 로더 등록
+     */
+    @PostConstruct
+    void registerCacheLoaders() {
+        cacheRefresher.register(CacheConfig.CACHE_USER, key ->
+                userRepository.findResponseById((Long) key).orElse(null));
+        cacheRefresher.register(CacheConfig.CACHE_USER_EMAIL, key ->
+                userRepository.findResponseByEmail((String) key).orElse(null));
+    }
 
     @Transactional
     public UserResponse createUser(UserRequest.Create request) {
@@ -52,6 +85,11 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         log.info("User created successfully with ID: {}", savedUser.getUserId());
+        userSearchIndexService.index(savedUser);
+        nicknameAutocompleteIndex.syncAfterCommit(savedUser);
+
+        // 이전에 캐시된 "사용자 없음" tombstone 제거
+        cacheInvalidationService.invalidateNegativeLookups(savedUser.getUserId(), savedUser.getEmail());
 
         return UserResponse.fromEntity(savedUser);
     }
@@ -61,10 +99,21 @@ public class UserService {
     public UserResponse getUserById(Long userId) {
         log.info("Fetching user with ID: {} (will cache if not exists)", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        // 존재하지 않는 사용자 tombstone 확인 (DB 조회 생략)
+        String tombstoneKey = cacheKeyGenerator.userMissingKey(userId);
+        if (negativeLookupCache.isMissing(tombstoneKey)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
 
-        return UserResponse.fromEntity(user);
+        // 엔티티 대신 응답 projection 으로 조회 (영속성 컨텍스트 / 스냅샷 없음)
+        // 캐시에 들어갈 값이므로 primary 에서 읽음 (무효화 직후 replica 의 이전 행이 다시 캐시되지 않도록)
+        UserResponse user = CacheFillReads.call(() -> userRepository.findResponseById(userId)).orElse(null);
+        if (user == null) {
+            negativeLookupCache.markMissing(tombstoneKey);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+
+        return user;
     }
 
     @Cacheable(value = CacheConfig.CACHE_USER_EMAIL, key = "#email")
@@ -72,10 +121,36 @@ public class UserService {
     public UserResponse getUserByEmail(String email) {
         log.info("Fetching user with email: {} (will cache if not exists)", email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
+        // 존재하지 않는 이메일 tombstone 확인 (DB 조회 생략)
+        String tombstoneKey = cacheKeyGenerator.userEmailMissingKey(email);
+        if (negativeLookupCache.isMissing(tombstoneKey)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email);
+        }
+
+        UserResponse user = CacheFillReads.call(() -> userRepository.findResponseByEmail(email)).orElse(null);
+        if (user == null) {
+            negativeLookupCache.markMissing(tombstoneKey);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email);
+        }
+
+        return user;
+    }
+
+    /**
+     * 공개 프로필 조회 (비로그인 / 타 서비스용 slim read model)
+     * 엔티티 전체 대신 4개 필드만 projection 으로 읽고 별도 compact 캐시에 저장
+     */
+    @Cacheable(value = CacheConfig.CACHE_USER_PUBLIC, key = "#userId")
+    @Transactional(readOnly = true)
+    public PublicProfileResponse getPublicProfile(Long userId) {
+        log.info("Fetching public profile with ID: {} (will cache if not exists)", userId);
+
+        if (negativeLookupCache.isMissing(cacheKeyGenerator.userMissingKey(userId))) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
 
-        return UserResponse.fromEntity(user);
+        return CacheFillReads.call(() -> userRepository.findPublicProfile(userId))
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
     }
 
     @Transactional(readOnly = true)
@@ -133,8 +208,16 @@ public class UserService {
         User updatedUser = userRepository.save(user);
         log.info("User updated successfully: {}", userId);
 
-        // Invalidate user info cache
-        cacheInvalidationService.invalidateUserInfoCache(userId);
+        if (request.getName() != null || request.getNickname() != null) {
+            userSearchIndexService.index(updatedUser);
+        }
+        if (request.getNickname() != null) {
+            nicknameAutocompleteIndex.syncAfterCommit(updatedUser);
+        }
+
+        // Write-through user info cache (id / email views) after commit
+        userCacheWriter.writeThroughAfterCommit(updatedUser);
+        cacheInvalidationService.invalidateUserDerivedViews(userId);
 
         return UserResponse.fromEntity(updatedUser);
     }
@@ -151,24 +234,27 @@ public class UserService {
 
         userRepository.save(user);
         log.info("User soft deleted successfully: {}", userId);
+        nicknameAutocompleteIndex.removeAfterCommit(userId);
 
         // Invalidate all user-related caches
-        cacheInvalidationService.invalidateUserCaches(userId);
+        cacheInvalidationService.invalidateUserCaches(userId, user.getEmail());
     }
 
     @Transactional
     public void hardDeleteUser(Long userId) {
         log.info("Hard deleting user with ID: {}", userId);
 
-        if (!userRepository.existsById(userId)) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
-        }
+        // 이메일 캐시 키 무효화를 위해 엔티티 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        userRepository.deleteById(userId);
+        userRepository.delete(user);
+        userSearchIndexService.remove(userId);
+        nicknameAutocompleteIndex.removeAfterCommit(userId);
         log.info("User hard deleted successfully: {}", userId);
 
         // Invalidate all user-related caches
-        cacheInvalidationService.invalidateUserCaches(userId);
+        cacheInvalidationService.invalidateUserCaches(userId, user.getEmail());
     }
 
     @Transactional
@@ -182,9 +268,11 @@ public class UserService {
 
         User updatedUser = userRepository.save(user);
         log.info("User role updated successfully: {}", userId);
+        nicknameAutocompleteIndex.syncAfterCommit(updatedUser);
 
-        // Invalidate user info cache (role affects access control)
-        cacheInvalidationService.invalidateUserInfoCache(userId);
+        // Write-through user info cache (role affects access control)
+        userCacheWriter.writeThroughAfterCommit(updatedUser);
+        cacheInvalidationService.invalidateUserDerivedViews(userId);
 
         return UserResponse.fromEntity(updatedUser);
     }
@@ -200,9 +288,12 @@ public class UserService {
 
         User updatedUser = userRepository.save(user);
         log.info("User suspended successfully: {}", userId);
+        nicknameAutocompleteIndex.syncAfterCommit(updatedUser);
 
-        // Invalidate all user-related caches (suspended user should not access)
-        cacheInvalidationService.invalidateUserCaches(userId);
+        // Write-through user info cache and revoke cached refresh token (suspended user should not access)
+        userCacheWriter.writeThroughAfterCommit(updatedUser);
+        cacheInvalidationService.invalidateUserDerivedViews(userId);
+        cacheInvalidationService.invalidateRefreshTokenCache(userId);
 
         return UserResponse.fromEntity(updatedUser);
     }
@@ -222,9 +313,11 @@ public class UserService {
 
         User updatedUser = userRepository.save(user);
         log.info("User activated successfully: {}", userId);
+        nicknameAutocompleteIndex.syncAfterCommit(updatedUser);
 
-        // Invalidate user info cache (status changed)
-        cacheInvalidationService.invalidateUserInfoCache(userId);
+        // Write-through user info cache (status changed)
+        userCacheWriter.writeThroughAfterCommit(updatedUser);
+        cacheInvalidationService.invalidateUserDerivedViews(userId);
 
         return UserResponse.fromEntity(updatedUser);
     }
@@ -330,7 +423,7 @@ public class UserService {
         );
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<User> userPage;
+        Page<UserResponse> userPage;
 
         if (keyword == null || keyword.trim().isEmpty()) {
             // 검색어 없음
@@ -340,14 +433,52 @@ public class UserService {
                 userPage = userRepository.findByStatusUsersOnly(status, User.UserRole.ADMIN, pageable);
             }
         } else {
-            // 검색어 있음
+            // 검색어 있음 - n-gram 색인으로 후보 조회
+            String normalized = NGramTokenizer.normalize(keyword);
+            Set<String> grams = NGramTokenizer.queryGrams(normalized);
             if (status == null) {
-                userPage = userRepository.searchUsersOnly(keyword, User.UserRole.ADMIN, pageable);
+                userPage = userRepository.searchUsersOnly(normalized, grams, grams.size(), User.UserRole.ADMIN, pageable);
             } else {
-                userPage = userRepository.searchUsersByStatusUsersOnly(keyword, status, User.UserRole.ADMIN, pageable);
+                userPage = userRepository.searchUsersByStatusUsersOnly(
+                        normalized, grams, grams.size(), status, User.UserRole.ADMIN, pageable);
             }
         }
 
-        return userPage.map(UserResponse::fromEntity);
+        return userPage;
+    }
+
+    /**
+     * Cursor (keyset) 방식 사용자 검색 - (createdAt, userId) 내림차순 고정
+     * OFFSET 스캔과 전체 count 쿼리 없이 cursor 위치부터 size + 1 개만 읽는다.
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> searchUsersWithCursor(String keyword, UserStatus status, int size, String cursor) {
+        CursorPage.validateSize(size);
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+        log.info("Searching users with cursor - keyword: {}, status: {}, size: {}, after: {}",
+                keyword, status, size, position);
+
+        List<UserResponse> users = userRepository.findUsersOnlyBefore(
+                keyword, status, User.UserRole.ADMIN,
+                position != null ? position.createdAt() : null,
+                position != null ? position.id() : null,
+                size + 1);
+
+        return CursorPage.of(users, size, Function.identity(),
+                user -> CursorCodec.encode(user.getCreatedAt(), user.getUserId()));
+    }
+
+    /**
+     * 닉네임 prefix 자동완성 (활성 사용자, 사전순 상위 limit 개)
+     */
+    public List<NicknameSuggestion> suggestNicknames(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("검색할 닉네임을 입력해주세요");
+        }
+        if (limit < 1 || limit > MAX_NICKNAME_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + MAX_NICKNAME_SUGGESTIONS + " 이하여야 합니다");
+        }
+        return nicknameAutocompleteIndex.suggest(prefix, limit);
     }
 }
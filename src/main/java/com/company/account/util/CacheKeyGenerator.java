@@ -36,6 +36,77 @@ public class CacheKeyGenerator {
         return "user:email:" + email;
     }
 
+    /**
+     * 공개 프로필 캐시 키
+     */
+    public String userPublicKey(Long userId) {
+        return "user:public:" + userId;
+    }
+
+    /**
+     * 사용자 조회 HTTP 응답 본문 (직렬화된 JSON 바이트) 캐시 키
+     */
+    public String userResponseBodyKey(Long userId) {
+        return "user:http:" + userId;
+    }
+
+    /**
+     * 사용자 조회 응답 검증자 (ETag / Last-Modified 용 버전) 캐시 키
+     */
+    public String userValidatorKey(Long userId) {
+        return "user:etag:" + userId;
+    }
+
+    /**
+     * 존재하지 않는 사용자 ID tombstone 키 (negative cache)
+     */
+    public String userMissingKey(Long userId) {
+        return "user:missing:id:" + userId;
+    }
+
+    /**
+     * 존재하지 않는 이메일 tombstone 키 (negative cache)
+     */
+    public String userEmailMissingKey(String email) {
+        return "user:missing:email:" + email;
+    }
+
+    /**
+     * 닉네임 자동완성 sorted set (모든 멤버 score 0, ZRANGEBYLEX 로 prefix 조회)
+     * 두 키는 같은 스크립트에서 함께 갱신하므로 hash tag 로 같은 슬롯에 둔다.
+     */
+    public String nicknameIndexKey() {
+        return "{user:nickname}:lex";
+    }
+
+    /**
+     * 닉네임 자동완성 역참조 (userId -> 현재 sorted set 멤버)
+     */
+    public String nicknameMemberKey() {
+        return "{user:nickname}:member";
+    }
+
+    /**
+     * ID 생성기 worker id lease 키 (값: 보유 인스턴스 식별자, TTL 로 만료)
+     */
+    public String idWorkerKey(int workerId) {
+        return "id:worker:" + workerId;
+    }
+
+    /**
+     * 검색 색인 backfill 분산 락 키 (값: 보유 인스턴스 식별자, TTL 로 만료)
+     */
+    public String searchIndexBackfillLockKey() {
+        return "lock:search-index-backfill";
+    }
+
+    /**
+     * DB read-your-writes 구간 표시 키 (값 없음, TTL 동안 해당 사용자의 읽기를 primary 로)
+     */
+    public String dbPrimaryReadKey(Long userId) {
+        return "db:primary-read:" + userId;
+    }
+
     /**
      * Refresh Token 캐시 키
      */
@@ -0,0 +1,129 @@
+package com.company.account.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180)
+ * 입력 전체를 메모리에 올리지 않고 한 레코드씩 읽는다.
+ * 따옴표로 감싼 값 안의 쉼표, 줄바꿈, 이스케이프된 따옴표 ("") 를 지원하며 CRLF / LF 줄 끝을 모두 허용한다.
+ * 값 하나의 길이는 maxFieldLength 로 제한한다. 닫히지 않은 따옴표가 파일 나머지를 한 값으로 삼키지 않도록
+ * 한도를 넘으면 현재 줄 끝까지 버리고 {@link MalformedRecordException} 을 던지며, 다음 호출은 그 다음 줄부터 읽는다.
+ */
+public class CsvRowReader {
+
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 4096;
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private int pushedBack = -2;
+
+    public CsvRowReader(Reader reader) {
+        this(reader, DEFAULT_MAX_FIELD_LENGTH);
+    }
+
+    public CsvRowReader(Reader reader, int maxFieldLength) {
+        if (maxFieldLength <= 0) {
+            throw new IllegalArgumentException("maxFieldLength 는 1 이상이어야 합니다: " + maxFieldLength);
+        }
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * @return 다음 레코드의 값 목록, 입력이 끝나면 null
+     * @throws MalformedRecordException 현재 레코드가 잘못된 경우 (리더는 다음 레코드부터 계속 읽을 수 있다)
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedRecordException("CSV 따옴표가 닫히지 않았습니다");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                values.add(value.toString());
+                return values;
+            } else {
+                value.append((char) c);
+            }
+            if (value.length() > maxFieldLength) {
+                // 따옴표 값 안의 줄바꿈에서 한도를 넘었다면 이미 다음 줄의 시작이다
+                if (c != '\r' && c != '\n') {
+                    skipLine();
+                }
+                throw new MalformedRecordException(quoted
+                        ? "CSV 값이 " + maxFieldLength + "자를 넘습니다 (따옴표가 닫히지 않았을 수 있습니다)"
+                        : "CSV 값이 " + maxFieldLength + "자를 넘습니다");
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 현재 줄의 나머지를 버린다 (CR, LF, CRLF 줄 끝까지)
+     */
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != -1 && c != '\r' && c != '\n');
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * 레코드 하나가 잘못된 경우. 리더는 다음 레코드 위치로 이동해 있으므로 호출자는 행 오류로 기록하고 계속 읽으면 된다.
+     */
+    public static class MalformedRecordException extends IllegalArgumentException {
+
+        public MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
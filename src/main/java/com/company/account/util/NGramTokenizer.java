@@ -0,0 +1,61 @@
+package com.company.account.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 사용자 검색 n-gram 분해
+ * 색인: 각 필드 값을 소문자 1-gram + 2-gram 으로 분해 (필드 경계를 넘는 gram 은 만들지 않음)
+ * 검색: 한 글자 검색어는 1-gram, 두 글자 이상은 2-gram 집합으로 분해
+ * gram 은 collation 영향을 받지 않도록 code point 16진수를 '.' 로 이은 문자열로 표현한다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static Set<String> indexGrams(String... values) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            int[] codePoints = normalize(value).codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                grams.add(encode(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    grams.add(encode(codePoints, i, 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    public static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalize(keyword).codePoints().toArray();
+        if (codePoints.length == 1) {
+            grams.add(encode(codePoints, 0, 1));
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(encode(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    public static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String encode(int[] codePoints, int offset, int length) {
+        StringBuilder gram = new StringBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            if (gram.length() > 0) {
+                gram.append('.');
+            }
+            gram.append(Integer.toHexString(codePoints[i]));
+        }
+        return gram.toString();
+    }
+}
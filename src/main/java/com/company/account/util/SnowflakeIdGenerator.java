@@ -0,0 +1,155 @@
+package com.company.account.util;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * K-sortable ID generator (Snowflake 방식)
+ * [41 bit: EPOCH 이후 밀리초][5 bit: worker id][7 bit: 같은 밀리초 안의 sequence]
+ *
+ * - 시간 -> sequence 순으로 증가하므로 ID 순서가 생성 순서와 같다 (created_at 대신 정렬 키로 사용 가능).
+ * - 애플리케이션에서 미리 ID 를 정하므로 IDENTITY 와 달리 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다.
+ * - 전체 53 bit 라 JSON 숫자로 내보내도 JavaScript (Number.MAX_SAFE_INTEGER) 에서 정밀도 손실이 없다.
+ *   worker 32 개, worker 당 밀리초마다 128 개 (초당 128,000 개) 까지 생성한다.
+ *
+ * worker id 는 인스턴스마다 달라야 하며 {@link com.company.account.cache.IdWorkerLease} 가 배정한다.
+ * lease 로 배정된 worker id 는 lease 만료 시각 (validUntil) 까지만 사용하고, 그 이후나 lease 가 없으면
+ * 다른 인스턴스와 중복될 수 있으므로 생성을 거부한다. (고정 worker id 는 만료 없음)
+ * 시계가 뒤로 가면 MAX_BACKWARD_MILLIS 까지는 기다리고, 그보다 크면 중복을 막기 위해 생성을 거부한다.
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int WORKER_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    private static final int TIMESTAMP_BITS = 41;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_BACKWARD_MILLIS = 10;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private final Clock clock;
+    private int workerId;
+    private long validUntilMillis = Long.MAX_VALUE;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(int workerId, Clock clock) {
+        this.workerId = validateWorkerId(workerId);
+        this.clock = clock;
+    }
+
+    /**
+     * Hibernate ID 생성기 ({@link com.company.account.entity.SnowflakeIdentifierGenerator}) 가 사용할 인스턴스 등록
+     */
+    public static void install(SnowflakeIdGenerator generator) {
+        shared = generator;
+    }
+
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator generator = shared;
+        if (generator == null) {
+            throw new IllegalStateException("ID 생성기가 초기화되지 않았습니다 (worker id 미배정)");
+        }
+        return generator;
+    }
+
+    public synchronized long nextId() {
+        if (clock.millis() >= validUntilMillis) {
+            throw new IllegalStateException("worker id lease 가 없거나 만료되어 ID 를 생성할 수 없습니다 (worker id: " + workerId + ")");
+        }
+        long timestamp = currentTimestamp();
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_BACKWARD_MILLIS) {
+                throw new IllegalStateException("시스템 시계가 " + backward + "ms 뒤로 이동하여 ID 를 생성할 수 없습니다");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 이번 밀리초의 sequence 소진 - 다음 밀리초까지 대기
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("ID timestamp 범위를 초과했습니다");
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | ((long) workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * worker lease 를 잃고 다시 배정받았을 때 호출
+     */
+    public synchronized void reassign(int workerId) {
+        this.workerId = validateWorkerId(workerId);
+    }
+
+    public synchronized void reassign(int workerId, long validUntilMillis) {
+        this.workerId = validateWorkerId(workerId);
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    /**
+     * lease 연장 시 사용 가능 시각 갱신
+     */
+    public synchronized void extendUntil(long validUntilMillis) {
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    /**
+     * lease 없음 / 상실 - 다시 배정받을 때까지 생성 거부
+     */
+    public synchronized void revoke() {
+        this.validUntilMillis = Long.MIN_VALUE;
+    }
+
+    public synchronized boolean isActive() {
+        return clock.millis() < validUntilMillis;
+    }
+
+    public synchronized int getWorkerId() {
+        return workerId;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static int workerIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_WORKER_ID);
+    }
+
+    private long waitUntil(long target) {
+        long timestamp = currentTimestamp();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimestamp();
+        }
+        return timestamp;
+    }
+
+    private long currentTimestamp() {
+        return clock.millis() - EPOCH_MILLIS;
+    }
+
+    private static int validateWorkerId(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker id 는 0 ~ " + MAX_WORKER_ID + " 사이여야 합니다: " + workerId);
+        }
+        return workerId;
+    }
+}
@@ -0,0 +1,48 @@
+-- Baseline schema (ddl-auto 로 생성되던 스키마를 그대로 옮김)
+-- MySQL 과 H2 (테스트) 양쪽에서 실행되므로 두 DB 가 공통으로 지원하는 문법만 사용한다.
+-- 이미 ddl-auto 로 테이블이 만들어진 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다.
+
+CREATE TABLE users (
+    user_id           BIGINT       NOT NULL AUTO_INCREMENT,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    name              VARCHAR(50)  NOT NULL,
+    role              VARCHAR(20)  NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    deleted_at        DATETIME(6),
+    nickname          VARCHAR(50),
+    phone             VARCHAR(20),
+    profile_image_url VARCHAR(255),
+    provider          VARCHAR(20),
+    refresh_token     VARCHAR(255),
+    last_login_at     DATETIME(6),
+    email_verified    BOOLEAN      NOT NULL,
+    email_verified_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE activities (
+    activity_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT      NOT NULL,
+    related_user_id BIGINT,
+    activity_type   VARCHAR(20) NOT NULL,
+    rating          INT,
+    comment         TEXT,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (activity_id)
+);
+
+CREATE TABLE email_verifications (
+    verification_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    email             VARCHAR(255) NOT NULL,
+    verification_code VARCHAR(6)   NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    expires_at        DATETIME(6)  NOT NULL,
+    verified          BOOLEAN      NOT NULL,
+    verified_at       DATETIME(6),
+    PRIMARY KEY (verification_id)
+);
@@ -0,0 +1,17 @@
+-- 자주 실행되는 조회용 복합 인덱스
+
+-- 내 활동 목록 (타입 필터, created_at DESC 정렬, keyset 페이지네이션)
+-- InnoDB 보조 인덱스는 PK (activity_id) 를 포함하므로 (created_at, activity_id) 정렬도 인덱스로 처리된다.
+CREATE INDEX idx_activities_user_type_created ON activities (user_id, activity_type, created_at);
+
+-- 타입 필터 없는 내 활동 목록 / 최근 활동 10건
+CREATE INDEX idx_activities_user_created ON activities (user_id, created_at);
+
+-- 인증 코드 확인 (email, verification_code, verified = false) - 조건 컬럼 모두를 포함하는 covering 인덱스
+CREATE INDEX idx_email_verifications_lookup ON email_verifications (email, verification_code, verified);
+
+-- 만료된 인증 코드 정리 (expires_at < now)
+CREATE INDEX idx_email_verifications_expires_at ON email_verifications (expires_at);
+
+-- 상태 / 역할 필터 + 가입일 정렬 사용자 목록 (관리자 목록, 검색, 커서 페이지네이션)
+CREATE INDEX idx_users_status_role_created ON users (status, role, created_at);
@@ -0,0 +1,11 @@
+-- 사용자 검색 n-gram 역색인 (UserSearchGram)
+-- V1 (baseline) 이후에 추가된 테이블이므로 별도 버전으로 둔다.
+-- baseline-on-migrate 로 V1 을 건너뛴 기존 DB 에도 이 버전은 실행된다.
+
+CREATE TABLE user_search_grams (
+    gram    VARCHAR(16) NOT NULL,
+    user_id BIGINT      NOT NULL,
+    PRIMARY KEY (gram, user_id)
+);
+
+CREATE INDEX idx_user_search_grams_user_id ON user_search_grams (user_id);
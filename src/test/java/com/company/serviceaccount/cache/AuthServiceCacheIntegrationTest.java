@@ -6,6 +6,7 @@ import com.company.account.dto.RefreshTokenCache;
 import com.company.account.entity.User;
 import com.company.account.repository.UserRepository;
 import com.company.account.service.AuthService;
+import com.company.account.service.CacheInvalidationService;
 import com.company.account.util.CacheKeyGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +16,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -57,6 +60,9 @@ class AuthServiceCacheIntegrationTest extends LocalRedisTest {
     @Autowired
     private CacheKeyGenerator cacheKeyGenerator;
 
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
     private User testUser;
     private String testEmail;
     private String testPassword;
@@ -252,6 +258,10 @@ class AuthServiceCacheIntegrationTest extends LocalRedisTest {
 
             // When
             authService.logout(testUser.getUserId());
+            // 무효화는 커밋 이후 비동기로 수행됨
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            assertThat(cacheInvalidationService.flush(Duration.ofSeconds(5))).isTrue();
 
             // Then
             // 캐시가 삭제되었는지 확인
@@ -0,0 +1,153 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CircuitBreakingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheCircuitBreaker 테스트")
+class CacheCircuitBreakerTest {
+
+    private static final RedisConnectionFailureException REDIS_DOWN =
+        new RedisConnectionFailureException("connection refused");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private CacheCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        circuitBreaker = new CacheCircuitBreaker(meterRegistry, 3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN 되고 캐시 호출을 우회")
+    void failures_openCircuit() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.call("get", () -> {
+                calls.incrementAndGet();
+                throw REDIS_DOWN;
+            }, "fallback");
+        }
+
+        // Then - 3번 실패 후에는 Redis 를 호출하지 않음
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.circuit.state").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.circuit.bypassed").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("cool-down 이후 probe 성공 시 CLOSED 로 복구")
+    void halfOpenProbe_success_closesCircuit() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        String result = circuitBreaker.call("get", () -> "cached", "fallback");
+
+        // Then
+        assertThat(result).isEqualTo("cached");
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("cache.circuit.transitions").tag("state", "closed").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("half-open 상태에서는 probe 한 건만 허용하고 실패 시 다시 OPEN")
+    void halfOpenProbe_failure_reopensCircuit() {
+        // Given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+        circuitBreaker.recordFailure(REDIS_DOWN);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애가 아닌 예외는 실패로 집계하지 않음")
+    void nonRedisException_notCounted() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.call("get", () -> {
+                throw new IllegalStateException("deserialization failed");
+            }, null);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 캐시 데코레이터는 미스로 처리하고 로더를 직접 호출")
+    void circuitBreakingCache_open_bypassesDelegate() {
+        // Given
+        ConcurrentMapCache delegate = new ConcurrentMapCache("user");
+        delegate.put(1L, "cached-profile");
+        CircuitBreakingCache cache = new CircuitBreakingCache(delegate, circuitBreaker);
+        openCircuit();
+
+        // When & Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "db-profile")).isEqualTo("db-profile");
+        cache.put(2L, "ignored");
+        assertThat(delegate.get(2L)).isNull();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure(REDIS_DOWN);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
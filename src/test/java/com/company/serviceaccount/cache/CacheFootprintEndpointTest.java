@@ -0,0 +1,152 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheFootprintEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CacheFootprintEndpoint 단위 테스트
+ *
+ * SCAN 커서와 측정 스크립트 결과를 스텁으로 대체하여 샘플링 집계와 max-keys 상한을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheFootprintEndpoint 단위 테스트")
+class CacheFootprintEndpointTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    @Mock
+    private RedisServerCommands serverCommands;
+
+    @Mock
+    private Cursor<byte[]> cursor;
+
+    private final AtomicInteger evalCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.execute(any(RedisCallback.class)))
+            .willAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        given(connection.keyCommands()).willReturn(keyCommands);
+        given(connection.serverCommands()).willReturn(serverCommands);
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        given(keyCommands.scan(any(ScanOptions.class))).willReturn(cursor);
+
+        // 키마다 [MEMORY USAGE, PTTL] - user:missing 은 SCAN 이후 만료된 것으로 (-2)
+        lenient().when(scriptingCommands.eval(any(byte[].class), eq(ReturnType.MULTI), anyInt(), any(byte[][].class)))
+            .thenAnswer(invocation -> {
+                evalCalls.incrementAndGet();
+                List<Object> result = new ArrayList<>();
+                Object[] arguments = invocation.getArguments();
+                for (int i = 3; i < arguments.length; i++) {
+                    String key = new String((byte[]) arguments[i], StandardCharsets.UTF_8);
+                    result.add(key.startsWith("user:http:") ? 2048L : 200L);
+                    result.add(key.startsWith("user:missing:") ? -2L : 600_000L);
+                }
+                return result;
+            });
+    }
+
+    @Test
+    @DisplayName("네임스페이스별 키 수 / 크기 / TTL 분포를 집계하고 DBSIZE 비율로 추정")
+    @SuppressWarnings("unchecked")
+    void footprint_aggregatesByNamespace() {
+        // Given
+        stubKeys(List.of("user:1", "user:2", "user:email:a@test.com", "user:http:1", "user:missing:id:9", "misc").iterator()::next, 6);
+        given(serverCommands.dbSize()).willReturn(10L);
+        CacheFootprintEndpoint endpoint = new CacheFootprintEndpoint(redisTemplate, 10_000, 500);
+
+        // When
+        Map<String, Object> result = endpoint.footprint(null);
+
+        // Then - 만료된 키는 집계에서 제외
+        assertThat(result.get("sampledKeys")).isEqualTo(5L);
+        assertThat(result.get("complete")).isEqualTo(false);
+        Map<String, Object> namespaces = (Map<String, Object>) result.get("namespaces");
+        assertThat(namespaces).containsOnlyKeys("user:email", "user:http", "user", "other");
+
+        Map<String, Object> user = (Map<String, Object>) namespaces.get("user");
+        assertThat(user.get("sampledKeys")).isEqualTo(2L);
+        assertThat(user.get("estimatedKeys")).isEqualTo(4L);
+        assertThat(((Map<String, Long>) user.get("ttlHistogram")).get("<15m")).isEqualTo(2L);
+        assertThat(((Map<String, Long>) ((Map<String, Object>) namespaces.get("user:http")).get("sizeHistogram"))
+            .get("<=4KB")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("요청한 maxKeys 만큼만 SCAN 하고 100개 단위로 측정")
+    void footprint_stopsAtRequestedMaxKeys() {
+        // Given
+        AtomicInteger generated = new AtomicInteger();
+        stubKeys(() -> ("user:" + generated.incrementAndGet()).getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+        CacheFootprintEndpoint endpoint = new CacheFootprintEndpoint(redisTemplate, 10_000, 500);
+
+        // When
+        Map<String, Object> result = endpoint.footprint(250);
+
+        // Then
+        assertThat(result.get("sampledKeys")).isEqualTo(250L);
+        assertThat(generated.get()).isEqualTo(250);
+        assertThat(evalCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("maxKeys 요청값이 상한을 넘으면 50000 개로 제한")
+    void footprint_clampsMaxKeys() {
+        // Given
+        AtomicInteger generated = new AtomicInteger();
+        stubKeys(() -> ("user:" + generated.incrementAndGet()).getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+        CacheFootprintEndpoint endpoint = new CacheFootprintEndpoint(redisTemplate, 10_000, 500);
+
+        // When
+        Map<String, Object> result = endpoint.footprint(Integer.MAX_VALUE);
+
+        // Then
+        assertThat(result.get("maxKeys")).isEqualTo(50_000);
+        assertThat(generated.get()).isEqualTo(50_000);
+    }
+
+    private void stubKeys(Supplier<Object> next, int size) {
+        AtomicInteger remaining = new AtomicInteger(size);
+        given(cursor.hasNext()).willAnswer(invocation -> remaining.get() > 0);
+        given(cursor.next()).willAnswer(invocation -> {
+            remaining.decrementAndGet();
+            Object key = next.get();
+            return key instanceof String text ? text.getBytes(StandardCharsets.UTF_8) : key;
+        });
+    }
+}
@@ -67,6 +67,24 @@ class CacheKeyGeneratorTest {
         assertThat(key).isEqualTo("user:email:test@example.com");
     }
 
+    @Test
+    @DisplayName("존재하지 않는 사용자 tombstone 키 생성")
+    void userMissingKeys_returnCorrectFormat() {
+        // When & Then
+        assertThat(cacheKeyGenerator.userMissingKey(123L)).isEqualTo("user:missing:id:123");
+        assertThat(cacheKeyGenerator.userEmailMissingKey("test@example.com"))
+            .isEqualTo("user:missing:email:test@example.com");
+    }
+
+    @Test
+    @DisplayName("사용자 조회 응답 본문 / 검증자 / 공개 프로필 캐시 키 생성")
+    void userResponseKeys_returnCorrectFormat() {
+        // When & Then
+        assertThat(cacheKeyGenerator.userResponseBodyKey(123L)).isEqualTo("user:http:123");
+        assertThat(cacheKeyGenerator.userValidatorKey(123L)).isEqualTo("user:etag:123");
+        assertThat(cacheKeyGenerator.userPublicKey(123L)).isEqualTo("user:public:123");
+    }
+
     @Test
     @DisplayName("Refresh Token 캐시 키 생성")
     void refreshTokenKey_returnsCorrectFormat() {
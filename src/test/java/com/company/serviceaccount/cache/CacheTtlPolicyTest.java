@@ -0,0 +1,102 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.CachedValue;
+import com.company.account.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheTtlPolicy 테스트")
+class CacheTtlPolicyTest {
+
+    private static final String CACHE_NAME = "user";
+    private static final Duration BASE_TTL = Duration.ofHours(1);
+    private static final Duration MAX_TTL = Duration.ofHours(6);
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private CacheTtlPolicy noJitterPolicy;
+
+    @BeforeEach
+    void setUp() {
+        noJitterPolicy = new CacheTtlPolicy(
+            new SimpleMeterRegistry(), 0, MAX_TTL, 10, Duration.ofHours(24), 1000, clock);
+    }
+
+    @Test
+    @DisplayName("jitter 는 기본 TTL 의 ±비율 범위 안에서 분산")
+    void jitter_staysWithinBounds() {
+        // Given
+        CacheTtlPolicy policy = new CacheTtlPolicy(
+            new SimpleMeterRegistry(), 0.1, MAX_TTL, 10, Duration.ofHours(24), 1000, clock);
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.jitter(Duration.ofMinutes(10)))
+                .isBetween(Duration.ofMinutes(9), Duration.ofMinutes(11));
+        }
+    }
+
+    @Test
+    @DisplayName("자주 읽히고 오래 변경되지 않은 엔트리는 최대 TTL 까지 연장")
+    void adaptiveTtl_hotAndStable_extendsToMax() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            noJitterPolicy.recordRead(CACHE_NAME, 1L);
+        }
+
+        // When
+        Duration ttl = noJitterPolicy.adaptiveTtl(CACHE_NAME, 1L, envelope(now.minusDays(2)), BASE_TTL);
+
+        // Then
+        assertThat(ttl).isEqualTo(MAX_TTL);
+    }
+
+    @Test
+    @DisplayName("최근에 변경된 엔트리는 자주 읽혀도 기본 TTL 유지")
+    void adaptiveTtl_recentlyChanged_keepsBase() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            noJitterPolicy.recordRead(CACHE_NAME, 1L);
+        }
+
+        // When
+        Duration ttl = noJitterPolicy.adaptiveTtl(CACHE_NAME, 1L, envelope(now), BASE_TTL);
+
+        // Then
+        assertThat(ttl).isEqualTo(BASE_TTL);
+    }
+
+    @Test
+    @DisplayName("조회 수는 기록 시 초기화되어 다음 TTL 에 누적되지 않음")
+    void adaptiveTtl_resetsReadsOnWrite() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            noJitterPolicy.recordRead(CACHE_NAME, 1L);
+        }
+
+        // When
+        Duration first = noJitterPolicy.adaptiveTtl(CACHE_NAME, 1L, envelope(now.minusDays(2)), BASE_TTL);
+        Duration second = noJitterPolicy.adaptiveTtl(CACHE_NAME, 1L, envelope(now.minusDays(2)), BASE_TTL);
+
+        // Then - 절반 인기 -> base + (max - base) / 2
+        assertThat(first).isEqualTo(Duration.ofMinutes(210));
+        assertThat(second).isEqualTo(BASE_TTL);
+    }
+
+    private CachedValue envelope(LocalDateTime updatedAt) {
+        UserResponse user = UserResponse.builder().userId(1L).updatedAt(updatedAt).build();
+        return CachedValue.of(user, 0, 0);
+    }
+}
@@ -0,0 +1,193 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheWarmUpRunner;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.dto.RefreshTokenCache;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.security.JwtTokenProvider;
+import com.company.account.util.CacheKeyGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CacheWarmUpRunner 단위 테스트
+ *
+ * 테스트 범위:
+ * - 커넥션 풀별 DB 커넥션 / Valkey 커넥션 미리 생성
+ * - 최근 로그인 사용자 캐시와 유효한 Refresh Token 만 적재
+ * - Valkey 장애 시 적재 생략, time-budget 초과 시 중단
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmUpRunner 단위 테스트")
+class CacheWarmUpRunnerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCacheWriter userCacheWriter;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ObjectProvider<HikariDataSource> connectionPools;
+
+    @Mock
+    private HikariDataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private CacheCircuitBreaker cacheCircuitBreaker;
+    private UserCacheWriter.Batch batch;
+    private CacheWarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        cacheCircuitBreaker = new CacheCircuitBreaker(new SimpleMeterRegistry(), 1, Duration.ofSeconds(30));
+        runner = new CacheWarmUpRunner(userRepository, userCacheWriter, cacheKeyGenerator, jwtTokenProvider,
+            redisTemplate, cacheCircuitBreaker, connectionPools);
+        ReflectionTestUtils.setField(runner, "timeBudget", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(runner, "lookback", Duration.ofDays(7));
+        ReflectionTestUtils.setField(runner, "maxUsers", 5000);
+        ReflectionTestUtils.setField(runner, "dbConnections", 3);
+
+        batch = mock(UserCacheWriter.Batch.class, RETURNS_SELF);
+        lenient().when(userCacheWriter.batch()).thenReturn(batch);
+        lenient().when(connectionPools.orderedStream()).thenAnswer(invocation -> Stream.of(pool));
+        lenient().when(pool.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("풀마다 커넥션을 동시에 여러 개 빌렸다가 모두 반환")
+    void run_warmsDatabaseConnectionsPerPool() throws SQLException {
+        // Given
+        given(userRepository.findByStatusAndLastLoginAtAfter(any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of()));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(pool, times(3)).getConnection();
+        verify(connection, times(3)).isValid(1);
+        verify(connection, times(3)).close();
+        verify(redisTemplate).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("최근 로그인 사용자와 유효한 Refresh Token 만 한 배치로 적재")
+    void run_preloadsUsersAndValidRefreshTokens() {
+        // Given
+        User withToken = user(1L, "valid-token");
+        User withExpiredToken = user(2L, "expired-token");
+        User withoutToken = user(3L, null);
+        given(userRepository.findByStatusAndLastLoginAtAfter(eq(User.UserStatus.ACTIVE), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(withToken, withExpiredToken, withoutToken)));
+        given(jwtTokenProvider.getExpirationFromToken("valid-token"))
+            .willReturn(Date.from(Instant.now().plus(Duration.ofDays(7))));
+        given(jwtTokenProvider.getExpirationFromToken("expired-token")).willThrow(new JwtException("expired"));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(batch, times(3)).user(any(UserResponse.class));
+        verify(batch).entry(eq(cacheKeyGenerator.refreshTokenKey(1L)), any(RefreshTokenCache.class), any(Duration.class));
+        verify(batch, never()).entry(eq(cacheKeyGenerator.refreshTokenKey(2L)), any(), any());
+        verify(batch).execute();
+    }
+
+    @Test
+    @DisplayName("max-users 에 도달하면 다음 페이지를 조회하지 않음")
+    void run_stopsAtMaxUsers() {
+        // Given
+        ReflectionTestUtils.setField(runner, "maxUsers", 2);
+        given(userRepository.findByStatusAndLastLoginAtAfter(any(), any(), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(user(1L, null), user(2L, null)), Pageable.ofSize(2), true));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(userRepository, times(1)).findByStatusAndLastLoginAtAfter(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Valkey 연결에 실패하면 캐시 적재를 건너뜀")
+    void run_valkeyUnavailable_skipsPreload() {
+        // Given - 실패 1회에 회로 OPEN
+        given(redisTemplate.execute(any(RedisCallback.class))).willThrow(new RedisConnectionFailureException("refused"));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(cacheCircuitBreaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        verifyNoInteractions(userRepository, userCacheWriter);
+    }
+
+    @Test
+    @DisplayName("time-budget 을 넘기면 워밍업을 중단하고 바로 반환")
+    void run_exceedsTimeBudget_returnsWithinBudget() {
+        // Given - 첫 페이지 조회가 budget 보다 오래 걸림
+        ReflectionTestUtils.setField(runner, "timeBudget", Duration.ofMillis(200));
+        given(userRepository.findByStatusAndLastLoginAtAfter(any(), any(), any(Pageable.class))).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new SliceImpl<>(List.of());
+        });
+
+        // When
+        long startedAt = System.currentTimeMillis();
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(2_000L);
+        verifyNoInteractions(userCacheWriter);
+    }
+
+    private static User user(Long userId, String refreshToken) {
+        return User.builder()
+            .userId(userId)
+            .email("user" + userId + "@test.com")
+            .password("encoded")
+            .name("사용자" + userId)
+            .refreshToken(refreshToken)
+            .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.cache.HotKeyPinningCache;
+import com.company.account.cache.HotKeyTracker;
+import com.company.account.cache.HotKeysEndpoint;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HotKeyTracker / HotKeyPinningCache 테스트")
+class HotKeyTrackerTest {
+
+    private static final String CACHE_NAME = "user";
+
+    private HotKeyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        tracker = new HotKeyTracker(3, 10, Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    @DisplayName("조회 빈도 상위 K 개 키만 유지")
+    void topKeys_keepsMostFrequent() {
+        // Given - 키 i 를 i * 10 번 조회
+        for (long userId = 1; userId <= 5; userId++) {
+            for (int i = 0; i < userId * 10; i++) {
+                tracker.record(CACHE_NAME, userId);
+            }
+        }
+
+        // When
+        List<HotKeyTracker.HotKey> topKeys = tracker.topKeys();
+
+        // Then
+        assertThat(topKeys).extracting(HotKeyTracker.HotKey::key).containsExactly(5L, 4L, 3L);
+        assertThat(topKeys.get(0).count()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("최소 조회 수 미만인 키는 hot 으로 보지 않음")
+    void isHot_requiresMinReads() {
+        // Given
+        for (int i = 0; i < 9; i++) {
+            tracker.record(CACHE_NAME, 1L);
+        }
+
+        // When & Then
+        assertThat(tracker.isHot(CACHE_NAME, 1L)).isFalse();
+        tracker.record(CACHE_NAME, 1L);
+        assertThat(tracker.isHot(CACHE_NAME, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("hot 키는 L1 에 pin 되어 원본 캐시를 거치지 않고 응답")
+    void pinningCache_hotKey_servedLocally() {
+        // Given
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_NAME);
+        delegate.put(1L, "profile-1");
+        HotKeyLocalCache localCache = new HotKeyLocalCache(tracker, new SimpleMeterRegistry(), 3, Duration.ofSeconds(5));
+        HotKeyPinningCache cache = new HotKeyPinningCache(delegate, localCache);
+
+        for (int i = 0; i < 10; i++) {
+            cache.get(1L);
+        }
+        assertThat(localCache.isPinned(CACHE_NAME, 1L)).isTrue();
+
+        // When - 원본에서 값이 바뀌어도 pin 된 값으로 응답
+        delegate.put(1L, "profile-1-v2");
+
+        // Then
+        assertThat(cache.get(1L).get()).isEqualTo("profile-1");
+
+        // 쓰기/무효화는 L1 에도 반영
+        cache.put(1L, "profile-1-v3");
+        assertThat(cache.get(1L).get()).isEqualTo("profile-1-v3");
+        cache.evict(1L);
+        assertThat(localCache.isPinned(CACHE_NAME, 1L)).isFalse();
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 기록해도 상위 키를 추적")
+    void record_concurrent_tracksTopKey() throws InterruptedException {
+        // Given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When - 모든 스레드가 키 1 을 1000 번, 다른 키를 1 번씩 조회
+        for (int t = 0; t < threads; t++) {
+            long otherKey = 100L + t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    tracker.record(CACHE_NAME, 1L);
+                }
+                tracker.record(CACHE_NAME, otherKey);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        tracker.record(CACHE_NAME, 1L);
+
+        // Then - 동시 증가가 유실되지 않음 (8000 + 1)
+        assertThat(tracker.topKeys()).first().satisfies(hotKey -> {
+            assertThat(hotKey.key()).isEqualTo(1L);
+            assertThat(hotKey.count()).isGreaterThan(8000L);
+        });
+        assertThat(tracker.isHot(CACHE_NAME, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("hotkeys 엔드포인트는 이메일 키를 해시로만 노출")
+    @SuppressWarnings("unchecked")
+    void hotKeysEndpoint_masksEmailKeys() {
+        // Given
+        HotKeyLocalCache localCache = new HotKeyLocalCache(tracker, new SimpleMeterRegistry(), 3, Duration.ofSeconds(5));
+        for (int i = 0; i < 10; i++) {
+            tracker.record("user:email", "hong@example.com");
+            tracker.record(CACHE_NAME, 7L);
+        }
+        HotKeysEndpoint endpoint = new HotKeysEndpoint(localCache, new CacheKeyGenerator());
+
+        // When
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) endpoint.hotKeys().get("keys");
+
+        // Then
+        assertThat(keys).extracting(entry -> entry.get("key"))
+            .contains("7")
+            .noneMatch(key -> String.valueOf(key).contains("hong"))
+            .anyMatch(key -> String.valueOf(key).startsWith("sha256:"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.IdWorkerHealthIndicator;
+import com.company.account.cache.IdWorkerLease;
+import com.company.account.util.CacheKeyGenerator;
+import com.company.account.util.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * IdWorkerLease 단위 테스트
+ *
+ * 유효한 lease 없이 ID 를 만들지 않는지 (fail closed) 검증
+ * 스케줄러는 시작하지만 연장 주기가 테스트보다 길어 renew 는 직접 호출한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdWorkerLease 단위 테스트")
+class IdWorkerLeaseTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private CacheCircuitBreaker cacheCircuitBreaker;
+    private IdWorkerLease idWorkerLease;
+
+    @BeforeEach
+    void setUp() {
+        cacheCircuitBreaker = new CacheCircuitBreaker(new SimpleMeterRegistry(), 100, Duration.ofSeconds(30));
+        lenient().when(redisTemplate.getKeySerializer()).thenAnswer(invocation -> new StringRedisSerializer());
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (idWorkerLease != null) {
+            ReflectionTestUtils.invokeMethod(idWorkerLease, "stop");
+        }
+        // 다른 테스트가 공유 생성기를 쓰므로 고정 worker id 생성기로 되돌림
+        SnowflakeIdGenerator.install(new SnowflakeIdGenerator(0));
+    }
+
+    @Test
+    @DisplayName("기동 시 lease 를 얻으면 ID 생성, readiness UP")
+    void start_leased_generatesIds() {
+        // Given
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(true);
+
+        // When
+        start(Duration.ofSeconds(60));
+
+        // Then
+        assertThat(idWorkerLease.isLeased()).isTrue();
+        assertThat(SnowflakeIdGenerator.workerIdOf(SnowflakeIdGenerator.shared().nextId()))
+            .isEqualTo(idWorkerLease.getWorkerId());
+        assertThat(new IdWorkerHealthIndicator(idWorkerLease).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("기동 시 Valkey 장애면 임의 worker id 로 생성하지 않고 readiness DOWN")
+    void start_valkeyDown_refusesIds() {
+        // Given
+        willThrow(new RedisConnectionFailureException("connection refused"))
+            .given(redisTemplate).execute(any(RedisCallback.class));
+
+        // When
+        start(Duration.ofSeconds(60));
+
+        // Then
+        assertThat(idWorkerLease.isLeased()).isFalse();
+        assertThatThrownBy(() -> SnowflakeIdGenerator.shared().nextId())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(new IdWorkerHealthIndicator(idWorkerLease).health().getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    @Test
+    @DisplayName("Valkey 장애로 연장하지 못하면 lease 만료 이후 생성 거부")
+    void renew_valkeyDownPastTtl_refusesIds() throws InterruptedException {
+        // Given - lease TTL 1.2초 (시계 오차 여유 1초를 빼면 0.2초 동안 유효)
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(true);
+        start(Duration.ofMillis(1_200));
+        assertThat(SnowflakeIdGenerator.shared().nextId()).isPositive();
+        given(scriptingCommands.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+            .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When
+        ReflectionTestUtils.invokeMethod(idWorkerLease, "renew");
+        Thread.sleep(400);
+
+        // Then
+        assertThat(idWorkerLease.isLeased()).isFalse();
+        assertThatThrownBy(() -> SnowflakeIdGenerator.shared().nextId())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("lease 를 잃으면 새 worker id 를 얻을 때까지 생성 거부")
+    void renew_leaseLost_refusesUntilReacquired() {
+        // Given
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(true, false);
+        given(scriptingCommands.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+            .willReturn(0L);
+        start(Duration.ofSeconds(60));
+
+        // When - 다른 인스턴스가 가져갔고 모든 worker id 가 사용 중
+        ReflectionTestUtils.invokeMethod(idWorkerLease, "renew");
+
+        // Then
+        assertThat(idWorkerLease.isLeased()).isFalse();
+        assertThatThrownBy(() -> SnowflakeIdGenerator.shared().nextId())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void start(Duration leaseTtl) {
+        idWorkerLease = new IdWorkerLease(redisTemplate, new CacheKeyGenerator(), cacheCircuitBreaker, -1, leaseTtl);
+        ReflectionTestUtils.invokeMethod(idWorkerLease, "start");
+    }
+}
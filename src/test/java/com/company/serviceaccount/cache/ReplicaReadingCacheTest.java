@@ -0,0 +1,87 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.cache.ReplicaReadingCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReplicaReadingCache 테스트")
+class ReplicaReadingCacheTest {
+
+    private ConcurrentMapCache primary;
+    private ConcurrentMapCache replica;
+    private ReplicaReadingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWrites.clear();
+        primary = new ConcurrentMapCache("user");
+        replica = new ConcurrentMapCache("user");
+        cache = new ReplicaReadingCache(primary, replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("쓰기 전 조회는 replica 에서")
+    void get_withoutWrite_readsReplica() {
+        // Given - replica 가 아직 이전 값을 가진 상태 (복제 지연)
+        primary.put(1L, "v2");
+        replica.put(1L, "v1");
+
+        // When & Then
+        assertThat(cache.get(1L).get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기 후 조회는 primary 에서 (read-your-writes)")
+    void get_afterWrite_readsPrimary() {
+        // Given - 요청 처리 스레드
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        replica.put(1L, "v1");
+
+        // When
+        cache.put(1L, "v2");
+
+        // Then - 쓰기는 primary 로만 가고, 이후 조회도 primary
+        assertThat(replica.get(1L).get()).isEqualTo("v1");
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("요청 밖 (백그라운드 갱신 / warm-up 스레드) 의 쓰기는 이후 조회를 primary 로 고정하지 않음")
+    void get_afterWriteOutsideRequest_keepsReadingReplica() {
+        // Given - 요청에 묶이지 않은 스레드 (ReadYourWritesFilter 가 초기화하지 않음)
+        replica.put(1L, "v1");
+
+        // When
+        cache.put(1L, "v2");
+
+        // Then
+        assertThat(ReadYourWrites.isPrimaryRequired()).isFalse();
+        assertThat(cache.get(1L).get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("replica 미스는 primary 에서 로드")
+    void getWithLoader_replicaMiss_loadsThroughPrimary() {
+        // When
+        String value = cache.get(1L, () -> "loaded");
+
+        // Then
+        assertThat(value).isEqualTo("loaded");
+        assertThat(primary.get(1L).get()).isEqualTo("loaded");
+    }
+}
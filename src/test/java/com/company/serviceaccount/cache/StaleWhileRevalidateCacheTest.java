@@ -0,0 +1,163 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheRefresher;
+import com.company.account.cache.CachedValue;
+import com.company.account.cache.StaleWhileRevalidateCache;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StaleWhileRevalidateCache 테스트")
+class StaleWhileRevalidateCacheTest {
+
+    private static final String CACHE_NAME = "user";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache delegate;
+    private CacheRefresher cacheRefresher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = new ConcurrentMapCache(CACHE_NAME);
+        // 동기 실행 Executor 로 백그라운드 갱신을 결정적으로 검증
+        cacheRefresher = new CacheRefresher(meterRegistry, Duration.ofMinutes(1), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("저장 시 envelope 으로 감싸고 조회 시 원래 값 반환")
+    void put_wrapsValueInEnvelope() {
+        // Given
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ofMinutes(15));
+
+        // When
+        cache.put(1L, "profile-1");
+
+        // Then
+        assertThat(delegate.get(1L).get()).isInstanceOf(CachedValue.class);
+        assertThat(cache.get(1L).get()).isEqualTo("profile-1");
+        assertThat(cache.get(1L, String.class)).isEqualTo("profile-1");
+    }
+
+    @Test
+    @DisplayName("soft TTL 경과 시 stale 값을 즉시 제공하고 백그라운드에서 갱신")
+    void get_staleEntry_servesStaleAndRefreshes() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cacheRefresher.register(CACHE_NAME, key -> {
+            loads.incrementAndGet();
+            return "profile-1-v2";
+        });
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ZERO);
+        cache.put(1L, "profile-1");
+
+        // When
+        Cache.ValueWrapper served = cache.get(1L);
+
+        // Then
+        assertThat(served.get()).isEqualTo("profile-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(((CachedValue) delegate.get(1L).get()).getValue()).isEqualTo("profile-1-v2");
+        assertThat(meterRegistry.get("cache.stale.served").tag("reason", "revalidate").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 stale 값을 계속 제공하고 error 로 집계")
+    void get_refreshFails_keepsServingStale() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cacheRefresher.register(CACHE_NAME, key -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        });
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ZERO);
+        cache.put(1L, "profile-1");
+
+        // When
+        Object first = cache.get(1L).get();
+        Object second = cache.get(1L).get();
+
+        // Then - 두 번째 조회는 retry-backoff 중이므로 갱신을 시도하지 않음
+        assertThat(first).isEqualTo("profile-1");
+        assertThat(second).isEqualTo("profile-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.stale.served").tag("reason", "error").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.refresh").tag("result", "failure").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("갱신 결과 원본이 없으면 캐시에서 제거")
+    void get_refreshReturnsNull_evictsEntry() {
+        // Given
+        cacheRefresher.register(CACHE_NAME, key -> null);
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ZERO);
+        cache.put(1L, "profile-1");
+
+        // When
+        cache.get(1L);
+
+        // Then
+        assertThat(delegate.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("envelope 도입 이전 엔트리는 그대로 제공")
+    void get_legacyEntry_returnedAsIs() {
+        // Given
+        delegate.put(1L, "legacy-profile");
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ZERO);
+
+        // When & Then
+        assertThat(cache.get(1L).get()).isEqualTo("legacy-profile");
+    }
+
+    @Test
+    @DisplayName("VersionedWriter 가 있으면 조회 채우기와 백그라운드 갱신 모두 원본 버전과 함께 버전 비교 기록")
+    void put_withVersionedWriter_routesThroughVersionedWrite() {
+        // Given
+        UserResponse v1 = user(LocalDateTime.of(2025, 1, 1, 0, 0));
+        UserResponse v2 = user(LocalDateTime.of(2025, 1, 2, 0, 0));
+        List<CachedValue> written = new ArrayList<>();
+        cacheRefresher.register(CACHE_NAME, key -> v2);
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(delegate, cacheRefresher, Duration.ZERO, null,
+            (cacheName, key, envelope) -> {
+                written.add(envelope);
+                delegate.put(key, envelope);
+            });
+
+        // When
+        cache.put(1L, v1);
+        cache.get(1L);
+
+        // Then - 평문 put 없이 두 번 모두 VersionedWriter 경유
+        assertThat(written).hasSize(2);
+        assertThat(written.get(0).getVersion()).isEqualTo(UserCacheWriter.versionOf(v1));
+        assertThat(written.get(1).getValue()).isEqualTo(v2);
+        assertThat(written.get(1).getVersion()).isEqualTo(UserCacheWriter.versionOf(v2));
+    }
+
+    private static UserResponse user(LocalDateTime updatedAt) {
+        return UserResponse.builder()
+            .userId(1L)
+            .email("user1@test.com")
+            .name("사용자1")
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
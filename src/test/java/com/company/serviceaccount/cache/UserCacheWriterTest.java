@@ -0,0 +1,218 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.CachedValue;
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.config.CacheConfig;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserCacheWriter 단위 테스트
+ *
+ * 테스트 범위:
+ * - 사용자 두 조회 뷰 + 검증자를 버전 비교 스크립트로, tombstone 은 PSETEX 로 한 파이프라인에 기록
+ * - write-through 는 커밋 후에만 기록, 트랜잭션 밖에서는 즉시 기록
+ * - L1 pin 은 더 오래된 버전으로 덮어쓰지 않음, Valkey 장애 시 예외 없이 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheWriter 단위 테스트")
+class UserCacheWriterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HotKeyLocalCache hotKeyLocalCache;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private UserCacheWriter userCacheWriter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CacheTtlPolicy cacheTtlPolicy = new CacheTtlPolicy(meterRegistry, 0.1, Duration.ofHours(6), 20, Duration.ofHours(24), 1000);
+        CacheCircuitBreaker cacheCircuitBreaker = new CacheCircuitBreaker(meterRegistry, 5, Duration.ofSeconds(30));
+        userCacheWriter = new UserCacheWriter(redisTemplate, cacheKeyGenerator, cacheTtlPolicy, cacheCircuitBreaker, hotKeyLocalCache);
+        ReflectionTestUtils.setField(userCacheWriter, "userSoftTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(userCacheWriter, "userHardTtl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(userCacheWriter, "negativeTtl", Duration.ofSeconds(60));
+
+        lenient().when(redisTemplate.getKeySerializer()).thenAnswer(invocation -> new StringRedisSerializer());
+        lenient().when(redisTemplate.getValueSerializer()).thenAnswer(invocation -> new GenericJackson2JsonRedisSerializer());
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 엔트리 (id / 이메일 / 검증자) 는 버전 비교 스크립트, tombstone 은 PSETEX 로 한 파이프라인에 기록")
+    void batch_execute_writesAllEntriesInOnePipeline() {
+        // When
+        userCacheWriter.batch()
+            .user(user(1L, LocalDateTime.of(2025, 1, 1, 0, 0)))
+            .tombstone(cacheKeyGenerator.userMissingKey(2L))
+            .execute();
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(scriptingCommands, times(3)).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class));
+        verify(stringCommands).pSetEx(eq(cacheKeyGenerator.userMissingKey(2L).getBytes()), anyLong(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("@Cacheable 채우기 경로도 같은 키에 버전 비교 스크립트로 기록")
+    void putIfNewer_usesVersionedScript() {
+        // Given
+        UserResponse user = user(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        CachedValue envelope = CachedValue.versioned(user, 0L, 1000L, UserCacheWriter.versionOf(user));
+
+        // When
+        userCacheWriter.putIfNewer(CacheConfig.CACHE_USER, 1L, envelope);
+
+        // Then
+        verify(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+            eq(cacheKeyGenerator.userKey(1L).getBytes()), any(byte[].class), any(byte[].class),
+            eq(Long.toString(envelope.getVersion()).getBytes()));
+        verify(stringCommands, never()).pSetEx(any(byte[].class), anyLong(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("빈 배치는 Valkey 를 호출하지 않음")
+    void batch_empty_noop() {
+        // When
+        userCacheWriter.batch().execute();
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("write-through 는 커밋 후에 기록하고 L1 pin 두 뷰도 갱신")
+    void writeThroughAfterCommit_writesOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        User entity = User.builder()
+            .userId(1L)
+            .email("user1@test.com")
+            .password("encoded")
+            .name("사용자1")
+            .updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .build();
+
+        // When
+        userCacheWriter.writeThroughAfterCommit(entity);
+
+        // Then - 커밋 전에는 기록하지 않음
+        verifyNoInteractions(redisTemplate, hotKeyLocalCache);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(hotKeyLocalCache).onWrite(eq(CacheConfig.CACHE_USER), eq(1L), any(UserResponse.class));
+        verify(hotKeyLocalCache).onWrite(eq(CacheConfig.CACHE_USER_EMAIL), eq("user1@test.com"), any(UserResponse.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 기록")
+    void writeThroughAfterCommit_withoutTransaction_writesImmediately() {
+        // When
+        userCacheWriter.writeThroughAfterCommit(User.builder()
+            .userId(1L)
+            .email("user1@test.com")
+            .password("encoded")
+            .name("사용자1")
+            .build());
+
+        // Then
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("L1 에 더 최신 버전이 pin 되어 있으면 덮어쓰지 않음")
+    void writeThrough_olderVersion_keepsNewerPinned() {
+        // Given
+        UserResponse newer = user(1L, LocalDateTime.of(2025, 1, 2, 0, 0));
+        UserResponse older = user(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        given(hotKeyLocalCache.getPinned(CacheConfig.CACHE_USER, 1L)).willReturn(newer);
+
+        // When
+        userCacheWriter.writeThrough(older);
+
+        // Then
+        verify(hotKeyLocalCache, never()).onWrite(eq(CacheConfig.CACHE_USER), any(), any());
+        verify(hotKeyLocalCache).onWrite(CacheConfig.CACHE_USER_EMAIL, "user1@test.com", older);
+    }
+
+    @Test
+    @DisplayName("Valkey 장애 시 예외 없이 건너뜀")
+    void batch_valkeyFailure_swallowed() {
+        // Given
+        willThrow(new RedisConnectionFailureException("connection refused"))
+            .given(redisTemplate).executePipelined(any(RedisCallback.class));
+
+        // When & Then
+        assertThatCode(() -> userCacheWriter.batch().user(user(1L, null)).execute()).doesNotThrowAnyException();
+    }
+
+    private static UserResponse user(Long userId, LocalDateTime updatedAt) {
+        return UserResponse.builder()
+            .userId(userId)
+            .email("user" + userId + "@test.com")
+            .name("사용자" + userId)
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.company.serviceaccount.cache;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.cache.RedisReadRouting;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.cache.UserResponseBodyCache;
+import com.company.account.dto.UserResponse;
+import com.company.account.service.CacheInvalidationService;
+import com.company.account.util.CacheKeyGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserResponseBodyCache 단위 테스트
+ *
+ * Valkey 는 메모리 맵으로 대체하고, 무효화는 실제 CacheInvalidationService 를
+ * 워커 없이 flush 로 처리하여 변경 후 본문이 다시 만들어지는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserResponseBodyCache 단위 테스트")
+class UserResponseBodyCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisReadRouting redisReadRouting;
+
+    @Mock
+    private HotKeyLocalCache hotKeyLocalCache;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private SimpleMeterRegistry meterRegistry;
+    private UserResponseBodyCache userResponseBodyCache;
+    private CacheInvalidationService cacheInvalidationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CacheCircuitBreaker cacheCircuitBreaker = new CacheCircuitBreaker(meterRegistry, 5, Duration.ofSeconds(30));
+        CacheTtlPolicy cacheTtlPolicy = new CacheTtlPolicy(meterRegistry, 0.1, Duration.ofHours(6), 20, Duration.ofHours(24), 1000);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        userResponseBodyCache = new UserResponseBodyCache(redisTemplate, cacheKeyGenerator, cacheCircuitBreaker,
+            cacheTtlPolicy, objectMapper, redisReadRouting, meterRegistry, Duration.ofMinutes(10));
+        cacheInvalidationService = new CacheInvalidationService(redisTemplate, cacheKeyGenerator, hotKeyLocalCache,
+            meterRegistry, 100);
+
+        lenient().when(redisReadRouting.readTemplate()).thenReturn(redisTemplate);
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(connection.keyCommands()).thenReturn(keyCommands);
+        lenient().when(stringCommands.get(any(byte[].class)))
+            .thenAnswer(invocation -> store.get(string(invocation.getArgument(0))));
+        lenient().when(stringCommands.pSetEx(any(byte[].class), anyLong(), any(byte[].class))).thenAnswer(invocation -> {
+            store.put(string(invocation.getArgument(0)), invocation.getArgument(2));
+            return true;
+        });
+        lenient().when(keyCommands.unlink(any(byte[][].class))).thenAnswer(invocation -> {
+            long removed = 0;
+            for (Object rawKey : invocation.getArguments()) {
+                removed += store.remove(string((byte[]) rawKey)) != null ? 1 : 0;
+            }
+            return removed;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 loader 결과를 직렬화하여 user:http:{id} 에 저장")
+    void getOrLoad_miss_serializesAndStores() {
+        // When
+        UserResponseBodyCache.Body body = userResponseBodyCache.getOrLoad(1L, 0L, () -> user("사용자1"));
+
+        // Then - 본문과 버전을 한 키에 함께 저장
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).contains("\"name\":\"사용자1\"");
+        assertThat(body.version()).isEqualTo(UserCacheWriter.versionOf(user("사용자1")));
+        assertThat(new String(store.get(cacheKeyGenerator.userResponseBodyKey(1L)), StandardCharsets.UTF_8))
+            .startsWith(body.version() + "\n{");
+        assertThat(meterRegistry.get("cache.response.body").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 히트 시 저장된 바이트를 그대로 반환하고 loader 를 호출하지 않음")
+    void getOrLoad_hit_returnsStoredBytes() {
+        // Given
+        UserResponseBodyCache.Body first = userResponseBodyCache.getOrLoad(1L, 0L, () -> user("사용자1"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        UserResponseBodyCache.Body second = userResponseBodyCache.getOrLoad(1L, 0L, () -> {
+            loads.incrementAndGet();
+            return user("다른 이름");
+        });
+
+        // Then
+        assertThat(second.json()).isEqualTo(first.json());
+        assertThat(second.version()).isEqualTo(first.version());
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.get("cache.response.body").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자 수정 / 정지 (write-through 경로) 후에는 본문을 다시 만듦")
+    void getOrLoad_afterUpdateOrSuspend_reloads() {
+        // Given
+        userResponseBodyCache.getOrLoad(1L, 0L, () -> user("사용자1"));
+
+        // When - updateUser / suspendUser 가 호출하는 무효화
+        cacheInvalidationService.invalidateUserDerivedViews(1L);
+        cacheInvalidationService.flush(Duration.ZERO);
+        UserResponseBodyCache.Body body = userResponseBodyCache.getOrLoad(1L, 0L, () -> user("수정된 이름"));
+
+        // Then
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).contains("\"name\":\"수정된 이름\"");
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 / 일괄 정지 후에는 본문을 다시 만듦")
+    void getOrLoad_afterDeleteOrBulkSuspend_reloads() {
+        // Given
+        userResponseBodyCache.getOrLoad(1L, 0L, () -> user("사용자1"));
+        userResponseBodyCache.getOrLoad(2L, 0L, () -> user("사용자2"));
+
+        // When - deleteUser / bulk suspend 가 호출하는 무효화
+        cacheInvalidationService.invalidateUserCaches(1L, "user1@test.com");
+        cacheInvalidationService.invalidateUserCaches(Map.of(2L, "user2@test.com"));
+        cacheInvalidationService.flush(Duration.ZERO);
+
+        // Then
+        assertThat(store).doesNotContainKeys(cacheKeyGenerator.userResponseBodyKey(1L),
+            cacheKeyGenerator.userResponseBodyKey(2L));
+        AtomicInteger loads = new AtomicInteger();
+        userResponseBodyCache.getOrLoad(1L, 0L, () -> {
+            loads.incrementAndGet();
+            return user("사용자1");
+        });
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Valkey 장애 시 매번 직렬화하여 응답")
+    void getOrLoad_valkeyDown_servesSerializedBody() {
+        // Given
+        willThrow(new RedisConnectionFailureException("connection refused"))
+            .given(redisTemplate).execute(any(RedisCallback.class));
+
+        // When
+        UserResponseBodyCache.Body body = userResponseBodyCache.getOrLoad(1L, 0L, () -> user("사용자1"));
+
+        // Then
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).contains("\"name\":\"사용자1\"");
+        assertThat(store).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검증자보다 오래된 본문은 비동기 삭제 전이라도 다시 만들고, 본문과 같은 버전을 반환")
+    void getOrLoad_bodyOlderThanValidator_reloads() {
+        // Given - 수정 커밋 후 검증자는 v2 로 앞섰지만 user:http 본문 삭제는 아직 큐에 있음
+        UserResponse v1 = user("사용자1", LocalDateTime.of(2025, 1, 1, 0, 0));
+        UserResponse v2 = user("수정된 이름", LocalDateTime.of(2025, 1, 2, 0, 0));
+        userResponseBodyCache.getOrLoad(1L, 0L, () -> v1);
+
+        // When
+        UserResponseBodyCache.Body body = userResponseBodyCache.getOrLoad(1L, UserCacheWriter.versionOf(v2), () -> v2);
+
+        // Then
+        assertThat(body.version()).isEqualTo(UserCacheWriter.versionOf(v2));
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).contains("\"name\":\"수정된 이름\"");
+    }
+
+    @Test
+    @DisplayName("버전 접두어가 없는 이전 형식 값은 미스로 취급")
+    void getOrLoad_legacyValue_treatedAsMiss() {
+        // Given
+        store.put(cacheKeyGenerator.userResponseBodyKey(1L), "{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        userResponseBodyCache.getOrLoad(1L, 0L, () -> {
+            loads.incrementAndGet();
+            return user("사용자1");
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static UserResponse user(String name) {
+        return user(name, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    private static UserResponse user(String name, LocalDateTime updatedAt) {
+        return UserResponse.builder()
+            .userId(1L)
+            .email("user1@test.com")
+            .name(name)
+            .updatedAt(updatedAt)
+            .build();
+    }
+
+    private static String string(byte[] rawKey) {
+        return new String(rawKey, StandardCharsets.UTF_8);
+    }
+}
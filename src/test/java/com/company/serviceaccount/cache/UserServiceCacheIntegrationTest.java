@@ -1,10 +1,14 @@
 package com.company.serviceaccount.cache;
 
+import com.company.account.dto.NicknameSuggestion;
 import com.company.account.dto.UserRequest;
 import com.company.account.dto.UserResponse;
 import com.company.account.entity.User;
 import com.company.account.repository.UserRepository;
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.cache.UserCacheWriter;
 import com.company.account.config.CacheConfig;
+import com.company.account.service.CacheInvalidationService;
 import com.company.account.service.UserService;
 import com.company.account.util.CacheKeyGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,8 +20,11 @@ import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -61,6 +68,15 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private UserCacheWriter userCacheWriter;
+
+    @Autowired
+    private NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
     private User testUser;
 
     @BeforeEach
@@ -174,8 +190,8 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
     }
 
     @Test
-    @DisplayName("사용자 정보 수정 시 캐시가 무효화되는지 확인")
-    void updateUser_invalidatesCache() {
+    @DisplayName("사용자 정보 수정 시 커밋 후 캐시에 새 값이 기록되는지 확인 (write-through)")
+    void updateUser_writesThroughCache() {
         // Given
         Long userId = testUser.getUserId();
         org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.CACHE_USER);
@@ -212,21 +228,21 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
             .name("수정된 이름")
             .build();
         userService.updateUser(userId, updateRequest);
+        commitAndFlushInvalidations();
 
-        // Then - 캐시가 무효화되었는지 확인
+        // Then - 캐시 미스 없이 새 값이 id / 이메일 두 뷰에 기록되었는지 확인
         try {
             org.springframework.cache.Cache.ValueWrapper cachedAfter = cache.get(userId);
-            assertThat(cachedAfter).isNull();
-
-            // 재조회 시 새로운 캐시 생성 확인
-            UserResponse response = userService.getUserById(userId);
-            assertThat(response.getName()).isEqualTo("수정된 이름");
-
-            org.springframework.cache.Cache.ValueWrapper cachedNew = cache.get(userId);
-            assertThat(cachedNew).isNotNull();
-            UserResponse cachedUser = (UserResponse) cachedNew.get();
+            assertThat(cachedAfter).isNotNull();
+            UserResponse cachedUser = (UserResponse) cachedAfter.get();
             assertThat(cachedUser).isNotNull();
             assertThat(cachedUser.getName()).isEqualTo("수정된 이름");
+
+            org.springframework.cache.Cache emailCache = cacheManager.getCache(CacheConfig.CACHE_USER_EMAIL);
+            assertThat(emailCache).isNotNull();
+            org.springframework.cache.Cache.ValueWrapper cachedByEmail = emailCache.get(testUser.getEmail());
+            assertThat(cachedByEmail).isNotNull();
+            assertThat(((UserResponse) cachedByEmail.get()).getName()).isEqualTo("수정된 이름");
         } catch (Exception e) {
             // Redis 연결 실패 시 검증 스킵
             System.out.println("Redis 연결 실패로 캐시 검증 스킵: " + e.getMessage());
@@ -268,6 +284,7 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
 
         // When - 사용자 삭제
         userService.deleteUser(userId);
+        commitAndFlushInvalidations();
 
         // Then - 캐시가 무효화되었는지 확인
         try {
@@ -299,6 +316,7 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
                 .newPassword("NewPassword123!")
                 .build();
             userService.changePassword(userId, changePasswordRequest);
+            commitAndFlushInvalidations();
 
             // Then - Refresh Token 캐시가 무효화되었는지 확인
             Object cachedAfter = redisTemplate.opsForValue().get(refreshTokenKey);
@@ -308,5 +326,71 @@ class UserServiceCacheIntegrationTest extends LocalRedisTest {
             System.out.println("Redis 연결 실패, 테스트 스킵: " + e.getMessage());
         }
     }
-}
 
+    @Test
+    @DisplayName("늦게 도착한 이전 버전 쓰기는 더 최신 캐시 값을 덮어쓰지 않음")
+    void writeThrough_olderVersion_doesNotOverwriteNewer() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UserResponse newer = UserResponse.fromEntity(testUser);
+        newer.setName("최신 이름");
+        newer.setUpdatedAt(now);
+        UserResponse older = UserResponse.fromEntity(testUser);
+        older.setName("이전 이름");
+        older.setUpdatedAt(now.minusSeconds(1));
+
+        try {
+            // When - 최신 값이 먼저 기록되고 이전 값이 늦게 도착
+            userCacheWriter.writeThrough(newer);
+            userCacheWriter.writeThrough(older);
+
+            // Then
+            org.springframework.cache.Cache.ValueWrapper cached =
+                cacheManager.getCache(CacheConfig.CACHE_USER).get(testUser.getUserId());
+            assertThat(cached).isNotNull();
+            assertThat(((UserResponse) cached.get()).getName()).isEqualTo("최신 이름");
+        } catch (Exception e) {
+            // Redis 연결 실패 시 테스트 스킵
+            System.out.println("Redis 연결 실패, 테스트 스킵: " + e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("닉네임 자동완성 - 커밋 후 색인되고 대소문자 구분 없이 prefix 로 조회, 제거 후에는 조회되지 않음")
+    void nicknameAutocomplete_prefixLookup() {
+        // Given
+        Long userId = testUser.getUserId();
+
+        try {
+            nicknameAutocompleteIndex.syncAfterCommit(testUser);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            // When & Then
+            assertThat(nicknameAutocompleteIndex.suggest("CACHE-user", 10))
+                .extracting(NicknameSuggestion::getUserId, NicknameSuggestion::getNickname)
+                .contains(tuple(userId, "cache-user-test"));
+            assertThat(nicknameAutocompleteIndex.suggest("cache-usex", 10))
+                .extracting(NicknameSuggestion::getUserId)
+                .doesNotContain(userId);
+
+            nicknameAutocompleteIndex.removeAfterCommit(userId);
+            assertThat(nicknameAutocompleteIndex.suggest("cache-user", 10))
+                .extracting(NicknameSuggestion::getUserId)
+                .doesNotContain(userId);
+        } catch (Exception e) {
+            // Redis 연결 실패 시 테스트 스킵
+            System.out.println("Redis 연결 실패, 테스트 스킵: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 무효화는 트랜잭션 커밋 이후 비동기로 수행되므로
+     * 테스트 트랜잭션을 커밋하고 대기 중인 무효화를 모두 처리
+     */
+    private void commitAndFlushInvalidations() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        assertThat(cacheInvalidationService.flush(Duration.ofSeconds(5))).isTrue();
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.serviceaccount.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션 테스트 (H2)
+ *
+ * 테스트 범위:
+ * - V1 은 ddl-auto 시절 baseline 스키마와 같은 테이블만 만든다
+ * - ddl-auto 로 만들어진 기존 DB (이력 테이블 없음) 에 baseline-on-migrate 로 적용해도
+ *   V1 이후 추가된 테이블 / 인덱스가 모두 생성된다
+ */
+@DisplayName("Flyway 마이그레이션 테스트")
+class FlywayMigrationTest {
+
+    private static final Set<String> BASELINE_TABLES = Set.of("users", "activities", "email_verifications");
+
+    @Test
+    @DisplayName("V1 은 baseline 스키마 테이블만 생성")
+    void v1_matchesBaselineSchema() throws SQLException {
+        String url = newDatabaseUrl();
+
+        flyway(url).target("1").load().migrate();
+
+        assertThat(tables(url)).containsExactlyInAnyOrderElementsOf(withHistory(BASELINE_TABLES));
+    }
+
+    @Test
+    @DisplayName("baseline 된 기존 DB 에도 V2 이후 테이블 / 인덱스 생성")
+    void baselinedDatabase_receivesLaterMigrations() throws SQLException {
+        // Given - ddl-auto 로 만들어진 DB: baseline 스키마만 있고 Flyway 이력은 없음
+        String url = newDatabaseUrl();
+        flyway(url).target("1").load().migrate();
+        dropHistoryTable(url);
+        assertThat(tables(url)).containsExactlyInAnyOrderElementsOf(BASELINE_TABLES);
+
+        // When - 운영 설정과 같은 baseline-on-migrate / baseline-version 1
+        int applied = flyway(url).baselineOnMigrate(true).baselineVersion("1").load().migrate().migrationsExecuted;
+
+        // Then
+        assertThat(applied).isGreaterThanOrEqualTo(2);
+        assertThat(tables(url)).contains("user_search_grams");
+        assertThat(indexes(url, "user_search_grams")).contains("idx_user_search_grams_user_id");
+        assertThat(indexes(url, "users")).contains("idx_users_status_role_created");
+    }
+
+    private static FluentConfiguration flyway(String url) {
+        return Flyway.configure()
+            .dataSource(url, "sa", "")
+            .locations("classpath:db/migration");
+    }
+
+    private static String newDatabaseUrl() {
+        return "jdbc:h2:mem:flyway-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static Set<String> withHistory(Set<String> tables) {
+        Set<String> expected = new HashSet<>(tables);
+        expected.add("flyway_schema_history");
+        return expected;
+    }
+
+    private static Set<String> tables(String url) throws SQLException {
+        Set<String> tables = new HashSet<>();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             ResultSet rs = connection.getMetaData().getTables(null, "PUBLIC", "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                tables.add(rs.getString("TABLE_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+        return tables;
+    }
+
+    private static Set<String> indexes(String url, String table) throws SQLException {
+        Set<String> indexes = new HashSet<>();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(null, "PUBLIC", table.toUpperCase(Locale.ROOT), false, false)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        indexes.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static void dropHistoryTable(String url) throws SQLException {
+        String historyTable = null;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (ResultSet rs = connection.getMetaData().getTables(null, "PUBLIC", "%", new String[]{"TABLE"})) {
+                while (rs.next()) {
+                    if (rs.getString("TABLE_NAME").equalsIgnoreCase("flyway_schema_history")) {
+                        historyTable = rs.getString("TABLE_NAME");
+                    }
+                }
+            }
+            assertThat(historyTable).isNotNull();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE \"" + historyTable + "\"");
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.company.serviceaccount.config;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheFillReads;
+import com.company.account.cache.ReadYourWrites;
+import com.company.account.config.PrimaryReadWindow;
+import com.company.account.config.ReadWriteRoutingDataSource;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ReadWriteRoutingDataSource / PrimaryReadWindow 단위 테스트
+ *
+ * 테스트 범위:
+ * - readOnly 트랜잭션은 replica, 그 외는 primary
+ * - 쓰기 커밋 후 window 동안 같은 사용자의 읽기는 primary (로컬 / Valkey)
+ * - 롤백된 트랜잭션은 window 를 열지 않음
+ * - 캐시를 채우는 readOnly 읽기는 primary (무효화 직후 replica 의 이전 행을 다시 캐시하지 않음)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private SimpleMeterRegistry meterRegistry;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReadYourWrites.clear();
+        meterRegistry = new SimpleMeterRegistry();
+        CacheCircuitBreaker cacheCircuitBreaker =
+            new CacheCircuitBreaker(meterRegistry, 3, Duration.ofSeconds(30), Clock.systemUTC());
+        PrimaryReadWindow primaryReadWindow =
+            new PrimaryReadWindow(redisTemplate, cacheKeyGenerator, cacheCircuitBreaker, WINDOW);
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, primaryReadWindow, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 읽기-쓰기는 primary")
+    void getConnection_routesByReadOnlyFlag() throws SQLException {
+        // When & Then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+
+        assertThat(meterRegistry.get("db.routing.connections").tag("pool", "replica").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("db.routing.connections").tag("reason", "read-write").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 window 동안 같은 사용자의 readOnly 읽기는 primary, 다른 사용자는 replica")
+    void getConnection_afterCommittedWrite_readsPrimaryForSameUser() throws SQLException {
+        // Given - 사용자 42 의 읽기-쓰기 트랜잭션 커밋
+        authenticate(42L);
+        runReadWriteTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        verify(valueOperations).set(cacheKeyGenerator.dbPrimaryReadKey(42L), Boolean.TRUE, WINDOW);
+
+        // When - 다음 요청
+        ReadYourWrites.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        authenticate(7L);
+        given(redisTemplate.hasKey(cacheKeyGenerator.dbPrimaryReadKey(7L))).willReturn(false);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 쓴 사용자는 Valkey 표시 키로 primary 라우팅")
+    void getConnection_windowMarkedInValkey_readsPrimary() throws SQLException {
+        // Given
+        authenticate(42L);
+        given(redisTemplate.hasKey(cacheKeyGenerator.dbPrimaryReadKey(42L))).willReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("db.routing.connections").tag("reason", "read-your-writes").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 window 를 열지 않음")
+    void getConnection_afterRollback_readsReplica() throws SQLException {
+        // Given
+        authenticate(42L);
+        runReadWriteTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        given(redisTemplate.hasKey(anyString())).willReturn(false);
+
+        // When
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Then
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("무효화 후 캐시 미스 로드는 primary 에서 읽어 지연된 replica 의 이전 행을 다시 캐시하지 않음")
+    void cacheFill_afterInvalidation_readsPrimary() throws SQLException {
+        // Given - replica 는 아직 정지 이전 (ACTIVE) 행, primary 는 커밋된 SUSPENDED 행
+        Map<Connection, String> rowByConnection = Map.of(primaryConnection, "SUSPENDED", replicaConnection, "ACTIVE");
+        Map<Long, String> cache = new HashMap<>(Map.of(42L, "ACTIVE"));
+
+        // When - 다른 관리자 요청이 정지 후 캐시를 무효화, 이어서 비로그인 조회 요청이 캐시 미스로 readOnly 트랜잭션에서 로드
+        cache.remove(42L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        String loaded = CacheFillReads.call(() -> rowByConnection.get(connection()));
+        cache.put(42L, loaded);
+
+        // Then
+        assertThat(cache).containsEntry(42L, "SUSPENDED");
+        assertThat(meterRegistry.get("db.routing.connections").tag("reason", "cache-fill").counter().count())
+            .isEqualTo(1.0);
+        assertThat(CacheFillReads.isActive()).isFalse();
+
+        // 캐시에 넣지 않는 readOnly 조회는 그대로 replica
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void runReadWriteTransaction(int completionStatus) throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            routingDataSource.getConnection();
+            routingDataSource.getConnection();  // 같은 트랜잭션에서 여러 번 가져와도 1회만 등록
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(synchronizations).hasSize(1);
+            if (completionStatus == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(completionStatus));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
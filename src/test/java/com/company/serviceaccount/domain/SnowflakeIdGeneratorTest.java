@@ -0,0 +1,161 @@
+package com.company.serviceaccount.domain;
+
+import com.company.account.util.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private MutableClock clock;
+    private SnowflakeIdGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        generator = new SnowflakeIdGenerator(7, clock);
+    }
+
+    @Test
+    @DisplayName("생성 순서대로 증가하고 중복 없음")
+    void nextId_monotonicAndUnique() {
+        // Given
+        SnowflakeIdGenerator systemClockGenerator = new SnowflakeIdGenerator(3);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0L;
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            long id = systemClockGenerator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("ID 에서 생성 시각과 worker id 를 복원, JavaScript 안전 정수 범위 이내")
+    void nextId_encodesTimestampAndWorker() {
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.workerIdOf(id)).isEqualTo(7);
+        assertThat(id).isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 sequence 를 모두 쓰면 다음 밀리초로 넘어감")
+    void nextId_sequenceExhausted_waitsForNextMillisecond() {
+        // Given - 같은 밀리초에서 128 개 생성
+        long last = 0L;
+        for (int i = 0; i < 128; i++) {
+            last = generator.nextId();
+        }
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(NOW);
+
+        // When - 시계가 읽힐 때마다 1ms 씩 진행
+        clock.tickOnRead = true;
+        long next = generator.nextId();
+
+        // Then
+        assertThat(next).isGreaterThan(last);
+        assertThat(SnowflakeIdGenerator.timestampOf(next)).isAfter(NOW);
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위 이상 뒤로 가면 생성 거부")
+    void nextId_clockMovedBackwards_throws() {
+        // Given
+        generator.nextId();
+
+        // When
+        clock.advance(Duration.ofSeconds(-1));
+
+        // Then
+        assertThatThrownBy(() -> generator.nextId())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("worker id 재배정 후 생성한 ID 에 새 worker id 반영")
+    void reassign_changesWorkerId() {
+        // When
+        generator.reassign(12);
+
+        // Then
+        assertThat(SnowflakeIdGenerator.workerIdOf(generator.nextId())).isEqualTo(12);
+        assertThatThrownBy(() -> generator.reassign(SnowflakeIdGenerator.MAX_WORKER_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("lease 만료 시각 이후 / lease 회수 후에는 생성 거부, 연장하면 다시 생성")
+    void nextId_afterLeaseExpiry_throws() {
+        // Given
+        generator.extendUntil(NOW.plusSeconds(60).toEpochMilli());
+        generator.nextId();
+
+        // When
+        clock.advance(Duration.ofSeconds(60));
+
+        // Then
+        assertThat(generator.isActive()).isFalse();
+        assertThatThrownBy(() -> generator.nextId())
+            .isInstanceOf(IllegalStateException.class);
+
+        generator.extendUntil(NOW.plusSeconds(120).toEpochMilli());
+        assertThat(generator.nextId()).isPositive();
+
+        generator.revoke();
+        assertThatThrownBy(() -> generator.nextId())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+        private boolean tickOnRead;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            Instant current = now;
+            if (tickOnRead) {
+                now = now.plusMillis(1);
+            }
+            return current;
+        }
+    }
+}
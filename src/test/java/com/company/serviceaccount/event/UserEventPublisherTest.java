@@ -0,0 +1,113 @@
+package com.company.serviceaccount.event;
+
+import com.company.account.entity.User.UserStatus;
+import com.company.account.event.UserEventPublisher;
+import com.company.account.event.UserStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserEventPublisher 단위 테스트
+ *
+ * 테스트 범위:
+ * - SNS 발행은 호출 스레드를 막지 않고 전용 스레드에서 수행
+ * - userIds 를 메시지 / PublishBatch 단위로 분할
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserEventPublisher 단위 테스트")
+class UserEventPublisherTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:ap-northeast-2:000000000000:user-events";
+
+    @Mock
+    private ObjectProvider<SnsClient> snsClientProvider;
+
+    @Mock
+    private SnsClient snsClient;
+
+    private UserEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(snsClientProvider.getIfAvailable()).thenReturn(snsClient);
+        publisher = new UserEventPublisher(snsClientProvider, new ObjectMapper(), TOPIC_ARN);
+    }
+
+    @Test
+    @DisplayName("SNS 호출이 느려도 이벤트 리스너는 바로 반환하고 발행은 전용 스레드에서 수행")
+    void onUserStatusChanged_publishesOffCallerThread() throws InterruptedException {
+        // Given - publishBatch 가 latch 를 풀 때까지 막힘
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> publishThread = new AtomicReference<>();
+        given(snsClient.publishBatch(any(PublishBatchRequest.class))).willAnswer(invocation -> {
+            publishThread.set(Thread.currentThread().getName());
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return PublishBatchResponse.builder().build();
+        });
+
+        // When
+        publisher.onUserStatusChanged(new UserStatusChangedEvent(List.of(1L, 2L), UserStatus.SUSPENDED, LocalDateTime.now()));
+
+        // Then - 동기 발행이었다면 호출 스레드에서 5초 막힌 뒤에야 반환됨
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        assertThat(publishThread.get())
+            .startsWith("user-event-publish-")
+            .isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("userIds 는 메시지당 500개, PublishBatch 당 10개 메시지로 나눠 순서대로 발행")
+    void onUserStatusChanged_splitsIntoBatches() {
+        // Given - 5,500명 → 메시지 11개 → PublishBatch 2회 (10 + 1)
+        List<Long> userIds = LongStream.rangeClosed(1, 5_500).boxed().toList();
+        given(snsClient.publishBatch(any(PublishBatchRequest.class))).willReturn(PublishBatchResponse.builder().build());
+
+        // When
+        publisher.onUserStatusChanged(new UserStatusChangedEvent(userIds, UserStatus.DELETED, LocalDateTime.now()));
+
+        // Then
+        ArgumentCaptor<PublishBatchRequest> requests = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(snsClient, timeout(1000).times(2)).publishBatch(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(request -> request.publishBatchRequestEntries().size())
+            .containsExactly(10, 1);
+        assertThat(requests.getAllValues()).allSatisfy(request -> assertThat(request.topicArn()).isEqualTo(TOPIC_ARN));
+    }
+
+    @Test
+    @DisplayName("토픽이 설정되지 않은 환경에서는 발행하지 않음")
+    void onUserStatusChanged_withoutTopic_skips() {
+        // Given
+        UserEventPublisher local = new UserEventPublisher(snsClientProvider, new ObjectMapper(), "");
+
+        // When
+        local.onUserStatusChanged(new UserStatusChangedEvent(List.of(1L), UserStatus.ACTIVE, LocalDateTime.now()));
+
+        // Then
+        verifyNoInteractions(snsClient);
+    }
+}
@@ -0,0 +1,136 @@
+package com.company.serviceaccount.integration;
+
+import com.company.account.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대량 INSERT JDBC 배치 검증 (MySQL)
+ *
+ * 같은 사용자 N 명을 JDBC 배치 없이 (행마다 1 회 왕복) 와 batch_size 배치로 저장하고,
+ * 세션의 JDBC 이벤트로 실제 실행된 문장 / 배치 수를 센다. (실행 시간은 환경에 따라 달라 비교하지 않음)
+ * IDENTITY 전략은 INSERT 마다 생성된 키를 받아야 해서 배치가 꺼지므로, 배치 없는 경우가 이전 동작과 같다.
+ */
+@SpringBootTest(classes = com.company.account.accountApplication.class)
+@Testcontainers
+@DisplayName("대량 INSERT JDBC 배치")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+    private static final int BATCH_SIZE = 100;
+    private static final String EMAIL_PREFIX = "bench-";
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test")
+        .withReuse(true);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> BATCH_SIZE);
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", EMAIL_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("batch_size 설정 시 INSERT 를 batch_size 개씩 묶어 실행, 배치 없으면 행마다 실행")
+    void batchedInsert_groupsInsertsIntoJdbcBatches() {
+        // When
+        JdbcCounts rowByRow = insertUsers(ROWS, 1);
+        JdbcCounts batched = insertUsers(ROWS, BATCH_SIZE);
+
+        // Then
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, EMAIL_PREFIX + "%");
+        assertThat(count).isEqualTo(ROWS * 2);
+
+        assertThat(rowByRow.batches()).isZero();
+        assertThat(rowByRow.statements()).isEqualTo(ROWS);
+
+        assertThat(batched.batches()).isEqualTo(ROWS / BATCH_SIZE);
+        assertThat(batched.statements()).isZero();
+        assertThat(batched.prepares()).isEqualTo(ROWS / BATCH_SIZE);
+    }
+
+    /**
+     * 한 트랜잭션에서 실행된 JDBC 문장 수 (단건 실행 / 배치 실행 / PreparedStatement 준비)
+     */
+    private record JdbcCounts(int statements, int batches, int prepares) {
+    }
+
+    private JdbcCounts insertUsers(int rows, int jdbcBatchSize) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        int[] counts = new int[3];
+        SessionEventListener listener = new SessionEventListener() {
+            @Override
+            public void jdbcExecuteStatementStart() {
+                counts[0]++;
+            }
+
+            @Override
+            public void jdbcExecuteBatchStart() {
+                counts[1]++;
+            }
+
+            @Override
+            public void jdbcPrepareStatementStart() {
+                counts[2]++;
+            }
+        };
+
+        transactionTemplate.executeWithoutResult(status -> {
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+            session.getEventListenerManager().addListener(listener);
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(User.builder()
+                    .email(EMAIL_PREFIX + run + "-" + i + "@test.com")
+                    .password("encodedPassword")
+                    .name("벤치마크")
+                    .nickname("b" + run + i)
+                    .build());
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return new JdbcCounts(counts[0], counts[1], counts[2]);
+    }
+}
@@ -13,6 +13,7 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -53,7 +54,7 @@ class UserApiIntegrationTest {
         registry.add("spring.datasource.password", mysql::getPassword);
         registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
         registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
-        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none"); // 스키마는 Flyway 마이그레이션으로 생성
         // 관리자 계정 설정
         registry.add("app.admin.email", () -> "admin@test.com");
         registry.add("app.admin.password", () -> "admin123!");
@@ -290,6 +291,135 @@ class UserApiIntegrationTest {
             .statusCode(anyOf(equalTo(401), equalTo(403))); // Spring Security는 401 또는 403을 반환할 수 있음
     }
 
+    @Test
+    @DisplayName("인증 없이 사용자 일괄 조회 - 실패 (이메일 / 연락처 포함 응답)")
+    void batchLookup_withoutAuth_fails() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(Map.of("emails", List.of("admin@test.com")))
+        .when()
+            .post("/users/batch")
+        .then()
+            .statusCode(anyOf(equalTo(401), equalTo(403)));
+    }
+
+    @Test
+    @DisplayName("hotkeys 엔드포인트 - 비로그인 / 일반 사용자 거부, 관리자만 조회")
+    void hotKeysEndpoint_adminOnly() {
+        given()
+            .basePath("")  // actuator 는 /api 밖
+        .when()
+            .get("/actuator/hotkeys")
+        .then()
+            .statusCode(anyOf(equalTo(401), equalTo(403)));
+
+        given()
+            .basePath("")
+            .header("Authorization", "Bearer " + signupAndLogin("hotkeys-user"))
+        .when()
+            .get("/actuator/hotkeys")
+        .then()
+            .statusCode(403);
+
+        given()
+            .basePath("")
+            .header("Authorization", "Bearer " + adminAccessToken())
+        .when()
+            .get("/actuator/hotkeys")
+        .then()
+            .statusCode(200)
+            .body("count", notNullValue());
+    }
+
+    @Test
+    @DisplayName("cachefootprint 엔드포인트 - 비로그인 / 일반 사용자 거부")
+    void cacheFootprintEndpoint_adminOnly() {
+        given()
+            .basePath("")  // actuator 는 /api 밖
+        .when()
+            .get("/actuator/cachefootprint")
+        .then()
+            .statusCode(anyOf(equalTo(401), equalTo(403)));
+
+        given()
+            .basePath("")
+            .header("Authorization", "Bearer " + signupAndLogin("footprint-user"))
+        .when()
+            .get("/actuator/cachefootprint")
+        .then()
+            .statusCode(403);
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 상태 변경 - 비로그인 / 일반 사용자 거부, 관리자만 허용")
+    void bulkStatusChange_adminOnly() {
+        Map<String, Object> request = Map.of("userIds", List.of(Long.MAX_VALUE));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+        .when()
+            .patch("/users/bulk/suspend")
+        .then()
+            .statusCode(anyOf(equalTo(401), equalTo(403)));
+
+        String userToken = signupAndLogin("bulk-user");
+        for (String action : List.of("suspend", "activate", "delete")) {
+            given()
+                .header("Authorization", "Bearer " + userToken)
+                .contentType(ContentType.JSON)
+                .body(request)
+            .when()
+                .patch("/users/bulk/" + action)
+            .then()
+                .statusCode(403);
+        }
+
+        given()
+            .header("Authorization", "Bearer " + adminAccessToken())
+            .contentType(ContentType.JSON)
+            .body(request)
+        .when()
+            .patch("/users/bulk/suspend")
+        .then()
+            .statusCode(200)
+            .body("data.notFoundUserIds", contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 가져오기 - 비로그인 / 일반 사용자 거부, 관리자만 허용")
+    void importUsers_adminOnly() {
+        String body = "{\"email\":\"import-" + System.currentTimeMillis()
+            + "@example.com\",\"password\":\"Password123!\",\"name\":\"가져오기\"}\n";
+
+        given()
+            .contentType(ContentType.TEXT)
+            .body(body)
+        .when()
+            .post("/users/import")
+        .then()
+            .statusCode(anyOf(equalTo(401), equalTo(403)));
+
+        given()
+            .header("Authorization", "Bearer " + signupAndLogin("import-user"))
+            .contentType(ContentType.TEXT)
+            .body(body)
+        .when()
+            .post("/users/import")
+        .then()
+            .statusCode(403);
+
+        given()
+            .header("Authorization", "Bearer " + adminAccessToken())
+            .contentType(ContentType.TEXT)
+            .body(body)
+        .when()
+            .post("/users/import")
+        .then()
+            .statusCode(200)
+            .body("data.importedCount", equalTo(1));
+    }
+
     @Test
     @DisplayName("프로필 조회 - 성공")
     void getProfile_success() {
@@ -335,6 +465,73 @@ class UserApiIntegrationTest {
             .body("data.name", equalTo("프로필테스터"));
     }
 
+    @Test
+    @DisplayName("조건부 조회 - If-None-Match 일치 시 304, 수정 후에는 새 ETag 와 수정된 본문")
+    void getProfile_conditionalRequest() {
+        // Given
+        String accessToken = signupAndLogin("etag");
+        Number userId = given()
+            .header("Authorization", "Bearer " + accessToken)
+        .when()
+            .get("/users/me")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("data.userId");
+
+        for (String path : List.of("/users/me", "/users/" + userId)) {
+            String etag = given()
+                .header("Authorization", "Bearer " + accessToken)
+            .when()
+                .get(path)
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract()
+                .header("ETag");
+
+            // When & Then - 변경 없음
+            given()
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", etag)
+            .when()
+                .get(path)
+            .then()
+                .statusCode(304);
+
+            // When & Then - 수정 후에는 이전 ETag 로 304 가 나오지 않고, 새 ETag 가 수정된 본문과 함께 내려옴
+            String name = "수정-" + System.nanoTime();
+            given()
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(ContentType.JSON)
+                .body(Map.of("name", name))
+            .when()
+                .patch("/users/me")
+            .then()
+                .statusCode(200);
+
+            String newEtag = given()
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", etag)
+            .when()
+                .get(path)
+            .then()
+                .statusCode(200)
+                .body("data.name", equalTo(name))
+                .header("ETag", not(equalTo(etag)))
+                .extract()
+                .header("ETag");
+
+            given()
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", newEtag)
+            .when()
+                .get(path)
+            .then()
+                .statusCode(304);
+        }
+    }
+
     @Test
     @DisplayName("프로필 업데이트 - 성공")
     void updateProfile_success() {
@@ -452,4 +649,32 @@ class UserApiIntegrationTest {
             .body("success", equalTo(true))
             .body("data.accessToken", notNullValue());
     }
+
+    private String signupAndLogin(String prefix) {
+        String email = prefix + "-" + System.currentTimeMillis() + "@example.com";
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(Map.of("email", email, "password", "Password123!", "name", "테스터"))
+        .when()
+            .post("/auth/signup");
+
+        return login(email, "Password123!");
+    }
+
+    private String adminAccessToken() {
+        return login("admin@test.com", "admin123!");
+    }
+
+    private String login(String email, String password) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(Map.of("email", email, "password", password))
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("data.accessToken");
+    }
 }
@@ -1,7 +1,10 @@
 package com.company.serviceaccount.service;
 
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.NicknameAutocompleteIndex;
 import com.company.account.dto.AuthRequest;
 import com.company.account.dto.AuthResponse;
+import com.company.account.dto.UserCredentials;
 import com.company.account.entity.User;
 import com.company.account.repository.UserRepository;
 import com.company.account.security.JwtTokenProvider;
@@ -9,17 +12,23 @@ import com.company.account.service.AuthService;
 import com.company.account.service.CacheInvalidationService;
 import com.company.account.service.EmailVerificationService;
 import com.company.account.service.KakaoAuthService;
+import com.company.account.service.UserSearchIndexService;
 import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -67,6 +76,16 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private UserSearchIndexService userSearchIndexService;
+
+    @Mock
+    private NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
+    @Spy
+    private CacheCircuitBreaker cacheCircuitBreaker =
+        new CacheCircuitBreaker(new SimpleMeterRegistry(), 5, Duration.ofSeconds(30), Clock.systemUTC());
+
     @InjectMocks
     private AuthService authService;
 
@@ -111,6 +130,7 @@ class AuthServiceTest {
         verify(userRepository, times(1)).existsByNickname(request.getNickname());
         verify(passwordEncoder, times(1)).encode(request.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userSearchIndexService).index(savedUser);
     }
 
     @Test
@@ -177,12 +197,11 @@ class AuthServiceTest {
             .emailVerified(true)
             .build();
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.of(credentialsOf(user)));
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
         given(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyString()))
             .willReturn("accessToken");
         given(jwtTokenProvider.createRefreshToken(anyLong())).willReturn("refreshToken");
-        given(userRepository.save(any(User.class))).willReturn(user);
         
         // Redis Mock 설정
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
@@ -197,11 +216,46 @@ class AuthServiceTest {
         assertThat(result.getAccessToken()).isEqualTo("accessToken");
         assertThat(result.getRefreshToken()).isEqualTo("refreshToken");
 
-        verify(userRepository, times(1)).findByEmail(request.getEmail());
+        verify(userRepository, times(1)).findCredentialsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).matches(request.getPassword(), user.getPassword());
         verify(jwtTokenProvider, times(1)).createAccessToken(anyLong(), anyString(), anyString());
         verify(jwtTokenProvider, times(1)).createRefreshToken(anyLong());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).updateLoginState(eq(1L), eq("refreshToken"), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("로그인 - Redis 장애 시에도 성공 (Refresh Token 캐싱 생략)")
+    void login_redisDown_stillSucceeds() {
+        // Arrange
+        AuthRequest.Login request = AuthRequest.Login.builder()
+            .email("test@example.com")
+            .password("Password123!")
+            .build();
+
+        User user = User.builder()
+            .userId(1L)
+            .email(request.getEmail())
+            .password("encodedPassword")
+            .name("테스터")
+            .role(User.UserRole.USER)
+            .status(User.UserStatus.ACTIVE)
+            .emailVerified(true)
+            .build();
+
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.of(credentialsOf(user)));
+        given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
+        given(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyString()))
+            .willReturn("accessToken");
+        given(jwtTokenProvider.createRefreshToken(anyLong())).willReturn("refreshToken");
+        given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // Act
+        AuthResponse.LoginResponse result = authService.login(request);
+
+        // Assert
+        assertThat(result.getRefreshToken()).isEqualTo("refreshToken");
+        verify(cacheCircuitBreaker, times(1)).recordFailure(any(RedisConnectionFailureException.class));
     }
 
     @Test
@@ -213,14 +267,14 @@ class AuthServiceTest {
             .password("Password123!")
             .build();
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.empty());
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> authService.login(request))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("이메일 또는 비밀번호가 올바르지 않습니다");
 
-        verify(userRepository, times(1)).findByEmail(request.getEmail());
+        verify(userRepository, times(1)).findCredentialsByEmail(request.getEmail());
         verify(passwordEncoder, never()).matches(anyString(), anyString());
     }
 
@@ -240,7 +294,7 @@ class AuthServiceTest {
             .status(User.UserStatus.ACTIVE)
             .build();
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.of(credentialsOf(user)));
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(false);
 
         // Act & Assert
@@ -248,7 +302,7 @@ class AuthServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("이메일 또는 비밀번호가 올바르지 않습니다");
 
-        verify(userRepository, times(1)).findByEmail(request.getEmail());
+        verify(userRepository, times(1)).findCredentialsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).matches(request.getPassword(), user.getPassword());
         verify(jwtTokenProvider, never()).createAccessToken(anyLong(), anyString(), anyString());
     }
@@ -269,7 +323,7 @@ class AuthServiceTest {
             .status(User.UserStatus.DELETED)
             .build();
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.of(credentialsOf(user)));
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
 
         // Act & Assert
@@ -277,7 +331,7 @@ class AuthServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("삭제된 계정입니다");
 
-        verify(userRepository, times(1)).findByEmail(request.getEmail());
+        verify(userRepository, times(1)).findCredentialsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).matches(request.getPassword(), user.getPassword());
     }
 
@@ -297,7 +351,7 @@ class AuthServiceTest {
             .status(User.UserStatus.SUSPENDED)
             .build();
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsByEmail(request.getEmail())).willReturn(Optional.of(credentialsOf(user)));
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
 
         // Act & Assert
@@ -305,7 +359,7 @@ class AuthServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("정지된 계정입니다");
 
-        verify(userRepository, times(1)).findByEmail(request.getEmail());
+        verify(userRepository, times(1)).findCredentialsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).matches(request.getPassword(), user.getPassword());
     }
 
@@ -436,4 +490,9 @@ class AuthServiceTest {
         verify(userRepository, times(1)).findById(userId);
         verify(jwtTokenProvider, never()).createAccessToken(anyLong(), anyString(), anyString());
     }
+
+    private UserCredentials credentialsOf(User user) {
+        return new UserCredentials(user.getUserId(), user.getEmail(), user.getPassword(), user.getName(),
+            user.getRole(), user.getStatus(), user.getProvider());
+    }
 }
@@ -0,0 +1,100 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.HotKeyLocalCache;
+import com.company.account.service.CacheInvalidationService;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CacheInvalidationService 단위 테스트
+ *
+ * 워커 스레드를 시작하지 않고 flush 로 큐를 직접 처리하여 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationService 단위 테스트")
+class CacheInvalidationServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HotKeyLocalCache hotKeyLocalCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("한 번의 변경에 해당하는 키를 하나의 파이프라인으로 UNLINK")
+    void invalidateUserCaches_unlinksAllKeysInOnePipeline() {
+        // Given
+        CacheInvalidationService service = newService(100);
+
+        // When
+        service.invalidateUserCaches(1L, "test@example.com");
+
+        // Then - 트랜잭션 밖에서는 즉시 큐에 등록되고 flush 시 일괄 삭제
+        assertThat(meterRegistry.get("cache.invalidation.queue.size").gauge().value()).isEqualTo(6.0);
+        assertThat(service.flush(Duration.ZERO)).isTrue();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertThat(meterRegistry.get("cache.invalidation.keys").counter().count()).isEqualTo(6.0);
+        verify(hotKeyLocalCache).evict("user", 1L);
+        verify(hotKeyLocalCache).evict("user:email", "test@example.com");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드에서 직접 UNLINK")
+    void invalidate_queueFull_unlinksInline() {
+        // Given
+        CacheInvalidationService service = newService(1);
+
+        // When
+        service.invalidateUserInfoCache(1L, "test@example.com");
+
+        // Then - 1개는 큐에, 넘친 1개는 즉시 삭제
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertThat(meterRegistry.get("cache.invalidation.inline").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.invalidation.queue.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 키를 큐에 유지하여 이후 재시도")
+    void flush_redisDown_keepsKeysPending() {
+        // Given
+        CacheInvalidationService service = newService(100);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+            .willThrow(new RedisConnectionFailureException("connection refused"))
+            .willReturn(List.of());
+        service.invalidateRefreshTokenCache(1L);
+
+        // When & Then
+        assertThat(service.flush(Duration.ZERO)).isFalse();
+        assertThat(meterRegistry.get("cache.invalidation.queue.size").gauge().value()).isEqualTo(1.0);
+        assertThat(service.flush(Duration.ZERO)).isTrue();
+        assertThat(meterRegistry.get("cache.invalidation.queue.size").gauge().value()).isZero();
+    }
+
+    private CacheInvalidationService newService(int queueCapacity) {
+        return new CacheInvalidationService(
+            redisTemplate, new CacheKeyGenerator(), hotKeyLocalCache, meterRegistry, queueCapacity);
+    }
+}
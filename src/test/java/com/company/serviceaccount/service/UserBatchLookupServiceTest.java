@@ -0,0 +1,190 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.cache.CacheRefresher;
+import com.company.account.cache.CacheTtlPolicy;
+import com.company.account.cache.CachedValue;
+import com.company.account.cache.RedisReadRouting;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.dto.UserBatchResponse;
+import com.company.account.dto.UserRequest;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User.UserStatus;
+import com.company.account.repository.UserRepository;
+import com.company.account.service.UserBatchLookupService;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserBatchLookupService 단위 테스트
+ *
+ * 테스트 범위:
+ * - 캐시 hit / tombstone / miss 분류와 miss 만 DB 조회
+ * - 결과를 요청 순서대로 병합
+ * - 이메일 대소문자 무시 매칭, Valkey 장애 시 DB 로 진행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBatchLookupService 단위 테스트")
+class UserBatchLookupServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheRefresher cacheRefresher;
+
+    @Mock
+    private CacheTtlPolicy cacheTtlPolicy;
+
+    @Mock
+    private UserCacheWriter userCacheWriter;
+
+    @Mock
+    private RedisReadRouting redisReadRouting;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+    private UserCacheWriter.Batch backfill;
+    private UserBatchLookupService userBatchLookupService;
+
+    @BeforeEach
+    void setUp() {
+        CacheCircuitBreaker cacheCircuitBreaker = new CacheCircuitBreaker(new SimpleMeterRegistry(), 5, Duration.ofSeconds(30));
+        userBatchLookupService = new UserBatchLookupService(userRepository, cacheKeyGenerator, cacheManager,
+            cacheRefresher, cacheCircuitBreaker, cacheTtlPolicy, userCacheWriter, redisReadRouting);
+
+        backfill = mock(UserCacheWriter.Batch.class, RETURNS_SELF);
+        lenient().when(userCacheWriter.batch()).thenReturn(backfill);
+        lenient().when(redisReadRouting.readTemplate()).thenReturn(redisTemplate);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 hit 은 그대로, tombstone 은 없음, miss 만 IN 쿼리로 조회해 요청 순서대로 병합")
+    void lookup_mergesCacheHitsAndMissesInRequestOrder() {
+        // Given - 요청 [3, 1, 2]: 1 은 캐시 hit, 2 는 tombstone, 3 은 miss
+        UserResponse cached = user(1L, "one@test.com");
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(
+            null, null,                                                          // 3: 엔트리 / tombstone 없음
+            CachedValue.of(cached, System.currentTimeMillis(), 60_000L), null,   // 1: fresh 엔트리
+            null, Boolean.TRUE));                                                // 2: tombstone
+        UserResponse loaded = user(3L, "three@test.com");
+        given(userRepository.findResponsesByIdIn(List.of(3L))).willReturn(List.of(loaded));
+
+        // When
+        UserBatchResponse response = userBatchLookupService.lookup(UserRequest.BatchLookup.builder()
+            .userIds(List.of(3L, 1L, 2L, 3L))
+            .build());
+
+        // Then
+        assertThat(response.getResults()).extracting(UserBatchResponse.Item::getKey).containsExactly("3", "1", "2");
+        assertThat(response.getResults()).extracting(UserBatchResponse.Item::isFound).containsExactly(true, true, false);
+        assertThat(response.getResults().get(0).getUser()).isSameAs(loaded);
+        assertThat(response.getResults().get(1).getUser()).isSameAs(cached);
+        assertThat(response.getFoundCount()).isEqualTo(2);
+        assertThat(response.getNotFoundCount()).isEqualTo(1);
+
+        verify(userRepository).findResponsesByIdIn(List.of(3L));
+        verify(backfill).user(loaded);
+        verify(backfill).execute();
+        verifyNoInteractions(cacheRefresher);
+    }
+
+    @Test
+    @DisplayName("이메일은 대소문자 무시로 매칭하고, DB 에도 없는 키는 tombstone 기록")
+    void lookup_emails_caseInsensitiveMatchAndTombstone() {
+        // Given
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(null, null, null, null));
+        UserResponse kim = user(5L, "kim@test.com");
+        given(userRepository.findResponsesByEmailIn(List.of("Kim@Test.com", "none@test.com"))).willReturn(List.of(kim));
+
+        // When
+        UserBatchResponse response = userBatchLookupService.lookup(UserRequest.BatchLookup.builder()
+            .emails(List.of("Kim@Test.com", "none@test.com"))
+            .build());
+
+        // Then
+        assertThat(response.getResults()).extracting(UserBatchResponse.Item::getKey)
+            .containsExactly("Kim@Test.com", "none@test.com");
+        assertThat(response.getResults().get(0).getUser()).isSameAs(kim);
+        assertThat(response.getResults().get(1).isFound()).isFalse();
+        verify(backfill).tombstone(cacheKeyGenerator.userEmailMissingKey("none@test.com"));
+    }
+
+    @Test
+    @DisplayName("stale 엔트리는 즉시 제공하고 갱신은 CacheRefresher 에 위임")
+    void lookup_staleEntry_servedAndRefreshed() {
+        // Given
+        UserResponse cached = user(1L, "one@test.com");
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(
+            CachedValue.of(cached, System.currentTimeMillis() - 120_000L, 60_000L), null));
+
+        // When
+        UserBatchResponse response = userBatchLookupService.lookup(UserRequest.BatchLookup.builder()
+            .userIds(List.of(1L))
+            .build());
+
+        // Then
+        assertThat(response.getResults().get(0).getUser()).isSameAs(cached);
+        verify(cacheRefresher).onStaleServed(eq("user"), eq(1L), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Valkey 장애 시 전부 캐시 미스로 보고 DB 에서 조회")
+    void lookup_valkeyFailure_fallsBackToDatabase() {
+        // Given
+        given(valueOperations.multiGet(anyList())).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(userRepository.findResponsesByIdIn(List.of(1L, 2L))).willReturn(List.of(user(2L, "two@test.com")));
+
+        // When
+        UserBatchResponse response = userBatchLookupService.lookup(UserRequest.BatchLookup.builder()
+            .userIds(List.of(1L, 2L))
+            .build());
+
+        // Then
+        assertThat(response.getResults()).extracting(UserBatchResponse.Item::isFound).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("userIds 와 emails 가 모두 비어 있으면 요청 거부")
+    void lookup_empty_throws() {
+        assertThatThrownBy(() -> userBatchLookupService.lookup(new UserRequest.BatchLookup()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserResponse user(Long userId, String email) {
+        return UserResponse.builder()
+            .userId(userId)
+            .email(email)
+            .name("사용자" + userId)
+            .status(UserStatus.ACTIVE)
+            .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.dto.UserBulkStatusResponse;
+import com.company.account.dto.UserRequest;
+import com.company.account.dto.UserResponse;
+import com.company.account.entity.User.UserRole;
+import com.company.account.entity.User.UserStatus;
+import com.company.account.event.UserStatusChangedEvent;
+import com.company.account.repository.UserRepository;
+import com.company.account.service.CacheInvalidationService;
+import com.company.account.service.UserBulkStatusService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserBulkStatusService 단위 테스트
+ *
+ * 테스트 범위:
+ * - 존재하지 않는 / 이미 대상 상태인 사용자 분류
+ * - set-based UPDATE 1회, 캐시 무효화 / 이벤트는 배치 단위 1회
+ * - 상태별 deletedAt 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBulkStatusService 단위 테스트")
+class UserBulkStatusServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserBulkStatusService userBulkStatusService;
+
+    @Test
+    @DisplayName("일괄 정지 - 대상만 한 번에 UPDATE, 미존재 / 이미 정지된 사용자는 결과에 분류")
+    void suspendUsers_updatesOnlyChangedUsers() {
+        // Given
+        given(userRepository.findResponsesByIdIn(anyCollection())).willReturn(List.of(
+            user(1L, UserStatus.ACTIVE), user(2L, UserStatus.ACTIVE), user(3L, UserStatus.SUSPENDED)));
+        given(userRepository.updateStatusIn(anyCollection(), eq(UserStatus.SUSPENDED), any(LocalDateTime.class)))
+            .willReturn(2);
+
+        // When
+        UserBulkStatusResponse response = userBulkStatusService.suspendUsers(request(1L, 2L, 3L, 2L, 999L));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(response.getRequestedCount()).isEqualTo(4);
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        assertThat(response.getUnchangedUserIds()).containsExactly(3L);
+        assertThat(response.getNotFoundUserIds()).containsExactly(999L);
+
+        verify(userRepository).updateStatusIn(eq(List.of(1L, 2L)), eq(UserStatus.SUSPENDED), any(LocalDateTime.class));
+        verify(cacheInvalidationService).invalidateUserCaches(Map.of(1L, "user1@test.com", 2L, "user2@test.com"));
+        verify(nicknameAutocompleteIndex).syncStatusAfterCommit(anyList(), eq(UserStatus.SUSPENDED));
+
+        ArgumentCaptor<UserStatusChangedEvent> event = ArgumentCaptor.forClass(UserStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().userIds()).containsExactly(1L, 2L);
+        assertThat(event.getValue().status()).isEqualTo(UserStatus.SUSPENDED);
+    }
+
+    @Test
+    @DisplayName("일괄 활성화 - deletedAt 을 초기화하며 UPDATE")
+    void activateUsers_clearsDeletedAt() {
+        // Given
+        given(userRepository.findResponsesByIdIn(anyCollection())).willReturn(List.of(user(1L, UserStatus.DELETED)));
+        given(userRepository.updateStatusAndDeletedAtIn(anyCollection(), eq(UserStatus.ACTIVE), isNull(), any(LocalDateTime.class)))
+            .willReturn(1);
+
+        // When
+        UserBulkStatusResponse response = userBulkStatusService.activateUsers(request(1L));
+
+        // Then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        verify(userRepository, never()).updateStatusIn(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - deletedAt 을 기록하며 UPDATE")
+    void deleteUsers_setsDeletedAt() {
+        // Given
+        given(userRepository.findResponsesByIdIn(anyCollection())).willReturn(List.of(user(1L, UserStatus.SUSPENDED)));
+        given(userRepository.updateStatusAndDeletedAtIn(anyCollection(), eq(UserStatus.DELETED), notNull(), any(LocalDateTime.class)))
+            .willReturn(1);
+
+        // When
+        UserBulkStatusResponse response = userBulkStatusService.deleteUsers(request(1L));
+
+        // Then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(UserStatus.DELETED);
+    }
+
+    @Test
+    @DisplayName("변경 대상이 없으면 UPDATE / 캐시 무효화 / 이벤트 발행 생략")
+    void suspendUsers_nothingToChange_skipsSideEffects() {
+        // Given
+        given(userRepository.findResponsesByIdIn(anyCollection())).willReturn(List.of(user(1L, UserStatus.SUSPENDED)));
+
+        // When
+        UserBulkStatusResponse response = userBulkStatusService.suspendUsers(request(1L, 2L));
+
+        // Then
+        assertThat(response.getUpdatedCount()).isZero();
+        assertThat(response.getUnchangedUserIds()).containsExactly(1L);
+        assertThat(response.getNotFoundUserIds()).containsExactly(2L);
+        verify(userRepository, never()).updateStatusIn(anyCollection(), any(), any());
+        verifyNoInteractions(cacheInvalidationService, nicknameAutocompleteIndex, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("userIds 에 null 이 있으면 요청 거부")
+    void suspendUsers_nullId_throws() {
+        assertThatThrownBy(() -> userBulkStatusService.suspendUsers(request(1L, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserRequest.BulkStatusChange request(Long... userIds) {
+        return UserRequest.BulkStatusChange.builder()
+            .userIds(Arrays.asList(userIds))
+            .build();
+    }
+
+    private static UserResponse user(Long userId, UserStatus status) {
+        return UserResponse.builder()
+            .userId(userId)
+            .email("user" + userId + "@test.com")
+            .name("사용자" + userId)
+            .nickname("닉네임" + userId)
+            .role(UserRole.USER)
+            .status(status)
+            .build();
+    }
+}
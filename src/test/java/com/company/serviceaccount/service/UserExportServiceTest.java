@@ -0,0 +1,90 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.dto.UserFieldSet;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.service.UserExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserExportService 단위 테스트
+ *
+ * 테스트 범위:
+ * - NDJSON / CSV 행 단위 출력
+ * - 읽은 엔티티 detach
+ * - CSV 이스케이프 / 수식 주입 방지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExportService 단위 테스트")
+class UserExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private UserExportService userExportService;
+
+    private User hong;
+    private User kim;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportService(userRepository, entityManager, new ObjectMapper().registerModule(new JavaTimeModule()));
+        hong = User.builder().userId(1L).email("hong@example.com").name("홍길동").nickname("=cmd").build();
+        kim = User.builder().userId(2L).email("kim@example.com").name("김, \"철수\"").nickname("kim").build();
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 사용자 하나, 요청 필드만 포함하고 엔티티는 행마다 detach")
+    void export_ndjson_writesOneLinePerUser() {
+        // Arrange
+        given(userRepository.streamForExport(User.UserStatus.ACTIVE)).willReturn(Stream.of(hong, kim));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = userExportService.export(User.UserStatus.ACTIVE, UserFieldSet.parse("email"),
+            UserExportService.Format.NDJSON, out);
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+            "{\"userId\":1,\"email\":\"hong@example.com\"}",
+            "{\"userId\":2,\"email\":\"kim@example.com\"}");
+        verify(entityManager).detach(hong);
+        verify(entityManager).detach(kim);
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 행, 쉼표/따옴표 이스케이프, 수식으로 해석될 값 앞에 ' 추가")
+    void export_csv_escapesCells() {
+        // Arrange
+        given(userRepository.streamForExport(null)).willReturn(Stream.of(hong, kim));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        userExportService.export(null, UserFieldSet.parse("name,nickname"), UserExportService.Format.CSV, out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "\uFEFFuserId,name,nickname\r\n"
+                + "1,홍길동,'=cmd\r\n"
+                + "2,\"김, \"\"철수\"\"\",kim\r\n");
+    }
+}
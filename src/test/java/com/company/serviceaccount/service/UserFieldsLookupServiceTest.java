@@ -0,0 +1,125 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.NegativeLookupCache;
+import com.company.account.cache.UserCacheWriter;
+import com.company.account.config.CacheConfig;
+import com.company.account.dto.UserFieldSet;
+import com.company.account.dto.UserResponse;
+import com.company.account.repository.UserRepository;
+import com.company.account.service.UserFieldsLookupService;
+import com.company.account.util.CacheKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserFieldsLookupService 단위 테스트")
+class UserFieldsLookupServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache userCache;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    private UserFieldsLookupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserFieldsLookupService(userRepository, cacheManager, new CacheKeyGenerator(), negativeLookupCache);
+        lenient().when(cacheManager.getCache(CacheConfig.CACHE_USER)).thenReturn(userCache);
+    }
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final long VERSION = UserCacheWriter.versionOf(UPDATED_AT);
+
+    @Test
+    @DisplayName("캐시 히트 - 캐시된 응답에서 요청 필드만 추출 (DB 조회 없음), 캐시된 버전을 함께 반환")
+    void getUserFieldsById_cacheHit_projectsCachedResponse() {
+        // Given
+        UserResponse cached = UserResponse.builder()
+            .userId(1L)
+            .email("test@example.com")
+            .nickname("테스터")
+            .phone("010-0000-0000")
+            .updatedAt(UPDATED_AT)
+            .build();
+        given(userCache.get(1L, UserResponse.class)).willReturn(cached);
+
+        // When
+        UserFieldsLookupService.Fields result = service.getUserFieldsById(1L, VERSION, UserFieldSet.parse("nickname"));
+
+        // Then - userId 는 항상 포함
+        assertThat(result.values()).containsOnlyKeys("userId", "nickname");
+        assertThat(result.values()).containsEntry("nickname", "테스터");
+        assertThat(result.version()).isEqualTo(VERSION);
+        verify(userRepository, never()).findFieldsBy(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - 요청 필드와 updatedAt 만 projection 으로 조회, updatedAt 은 버전으로만 사용")
+    void getUserFieldsById_cacheMiss_queriesRequestedColumns() {
+        // Given
+        given(userCache.get(1L, UserResponse.class)).willReturn(null);
+        given(userRepository.findFieldsBy("userId", 1L, List.of("userId", "nickname", "profileImageUrl", "updatedAt")))
+            .willReturn(Optional.of(Map.of("userId", 1L, "nickname", "테스터", "profileImageUrl", "img.png",
+                "updatedAt", UPDATED_AT)));
+
+        // When
+        UserFieldsLookupService.Fields result =
+            service.getUserFieldsById(1L, 0L, UserFieldSet.parse("profileImageUrl, nickname"));
+
+        // Then
+        assertThat(result.values()).containsOnlyKeys("userId", "nickname", "profileImageUrl");
+        assertThat(result.values()).containsEntry("profileImageUrl", "img.png");
+        assertThat(result.version()).isEqualTo(VERSION);
+    }
+
+    @Test
+    @DisplayName("캐시된 응답이 검증자 버전보다 오래됨 (stale-while-revalidate) - DB 에서 새 값과 새 버전으로 응답")
+    void getUserFieldsById_staleCachedResponse_readsDatabase() {
+        // Given - 캐시에는 닉네임 변경 이전 값
+        LocalDateTime changedAt = UPDATED_AT.plusMinutes(5);
+        UserResponse stale = UserResponse.builder().userId(1L).nickname("이전").updatedAt(UPDATED_AT).build();
+        given(userCache.get(1L, UserResponse.class)).willReturn(stale);
+        given(userRepository.findFieldsBy("userId", 1L, List.of("userId", "nickname", "updatedAt")))
+            .willReturn(Optional.of(Map.of("userId", 1L, "nickname", "새닉네임", "updatedAt", changedAt)));
+
+        // When
+        UserFieldsLookupService.Fields result = service.getUserFieldsById(1L,
+            UserCacheWriter.versionOf(changedAt), UserFieldSet.parse("nickname"));
+
+        // Then - 새 버전 ETag 가 이전 본문과 짝지어지지 않음
+        assertThat(result.values()).containsEntry("nickname", "새닉네임");
+        assertThat(result.version()).isEqualTo(UserCacheWriter.versionOf(changedAt));
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 필드 요청 - 예외 발생")
+    void parse_unknownField_throwsException() {
+        assertThatThrownBy(() -> UserFieldSet.parse("nickname,password"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("허용되지 않는 필드입니다: password");
+    }
+}
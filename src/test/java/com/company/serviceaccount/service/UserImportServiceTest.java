@@ -0,0 +1,216 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.dto.UserImportResult;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.service.CacheInvalidationService;
+import com.company.account.service.UserImportService;
+import com.company.account.service.UserSearchIndexService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserImportService 단위 테스트
+ *
+ * 테스트 범위:
+ * - NDJSON / CSV 행 단위 파싱
+ * - 검증 실패 / 파일 안 중복 / DB 중복 행의 행 번호와 사유
+ * - 깨진 CSV 레코드는 행 오류로 보고하고 이후 행은 계속 가져옴
+ * - 배치 INSERT 제약 조건 위반 시 한 행씩 재시도
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportService 단위 테스트")
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserSearchIndexService userSearchIndexService;
+
+    @Mock
+    private NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, passwordEncoder,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+            userSearchIndexService, nicknameAutocompleteIndex, cacheInvalidationService, transactionManager,
+            500, 1000, 4096, 2);
+        lenient().when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("NDJSON - 유효한 행만 해시 후 한 번에 저장, 검증 실패 / DB 중복 행은 사유와 함께 보고")
+    void importUsers_ndjson_reportsRowErrors() {
+        // Arrange
+        String body = """
+            {"email":"hong@example.com","password":"password123","name":"홍길동","nickname":"길동이"}
+            {"email":"short@example.com","password":"short","name":"짧은비번"}
+
+            {"email":"taken@example.com","password":"password123","name":"중복"}
+            not-json
+            """;
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of("TAKEN@example.com"));
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of());
+        given(userRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(body), UserImportService.Format.NDJSON);
+
+        // Assert
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(UserImportResult.RowError::getRow).containsExactly(2L, 5L, 4L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("최소 8자");
+        assertThat(result.getErrors().get(1).getMessage()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(result.getErrors().get(2).getMessage()).isEqualTo("이미 존재하는 이메일입니다: taken@example.com");
+
+        ArgumentCaptor<List<User>> saved = captor();
+        verify(userRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(user -> {
+            assertThat(user.getEmail()).isEqualTo("hong@example.com");
+            assertThat(user.getPassword()).isEqualTo("hashed:password123");
+        });
+        verify(userSearchIndexService).indexNew(saved.getValue());
+        verify(nicknameAutocompleteIndex).syncAllAfterCommit(saved.getValue());
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 순서 무관, 따옴표 값 파싱, 파일 안 중복 이메일은 대소문자 무시하고 거부")
+    void importUsers_csv_rejectsInFileDuplicates() {
+        // Arrange
+        String body = "\uFEFFname,email,password\r\n"
+            + "\"김, 철수\",kim@example.com,password123\r\n"
+            + "김철수2,KIM@example.com,password123\r\n";
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(body), UserImportService.Format.CSV);
+
+        // Assert
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2L);
+            assertThat(error.getMessage()).startsWith("파일 안에서 중복된 이메일입니다");
+        });
+
+        ArgumentCaptor<List<User>> saved = captor();
+        verify(userRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue()).extracting(User::getName).containsExactly("김, 철수");
+    }
+
+    @Test
+    @DisplayName("CSV - 필수 컬럼이 헤더에 없으면 요청 거부")
+    void importUsers_csv_missingColumns_throws() {
+        assertThatThrownBy(() -> userImportService.importUsers(
+                stream("email,name\r\na@example.com,a\r\n"), UserImportService.Format.CSV))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("email, password, name");
+    }
+
+    @Test
+    @DisplayName("CSV - 파일 중간의 닫히지 않은 따옴표는 행 오류로 보고하고 다음 줄부터 계속 가져옴")
+    void importUsers_csv_malformedRecordMidFile_reportedAsRowError() {
+        // Arrange - 청크 1 행, 값 최대 16자
+        UserImportService service = new UserImportService(userRepository, passwordEncoder,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+            userSearchIndexService, nicknameAutocompleteIndex, cacheInvalidationService, transactionManager,
+            1, 1000, 16, 2);
+        String body = "email,password,name\r\n"
+            + "a@example.com,password123,에이\r\n"
+            + "b@example.com,password123,\"비\r\n"          // 따옴표가 닫히지 않음 → 한도를 넘는 줄까지 한 레코드로 버림
+            + "c@example.com,password123,씨\r\n"
+            + "d@example.com,password123,디\r\n"
+            + "e@example.com,\"password123";                 // 파일 끝까지 따옴표가 닫히지 않음
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserImportResult result = service.importUsers(stream(body), UserImportService.Format.CSV);
+
+        // Assert
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(UserImportResult.RowError::getRow).containsExactly(2L, 4L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("16자를 넘습니다");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("CSV 따옴표가 닫히지 않았습니다");
+
+        ArgumentCaptor<List<User>> saved = captor();
+        verify(userRepository, times(2)).saveAllAndFlush(saved.capture());
+        assertThat(saved.getAllValues().stream().flatMap(List::stream).map(User::getEmail))
+            .containsExactly("a@example.com", "d@example.com");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 가 제약 조건에 걸리면 한 행씩 다시 저장해 실패한 행만 보고")
+    void importUsers_batchConstraintViolation_retriesRowByRow() {
+        // Arrange
+        String body = """
+            {"email":"a@example.com","password":"password123","name":"에이"}
+            {"email":"b@example.com","password":"password123","name":"비"}
+            """;
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.size() > 1 || users.get(0).getEmail().startsWith("b")) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return users;
+        });
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(body), UserImportService.Format.NDJSON);
+
+        // Assert
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2L);
+            assertThat(error.getEmail()).isEqualTo("b@example.com");
+        });
+        verify(userRepository, times(3)).saveAllAndFlush(anyList());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<User>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.company.serviceaccount.service;
+
+import com.company.account.cache.CacheCircuitBreaker;
+import com.company.account.entity.User;
+import com.company.account.repository.UserRepository;
+import com.company.account.repository.UserSearchGramRepository;
+import com.company.account.service.UserSearchIndexService;
+import com.company.account.util.CacheKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserSearchIndexService backfill 단위 테스트
+ *
+ * 테스트 범위:
+ * - 분산 락을 잡은 경우에만 색인 없는 사용자를 페이지 단위로 채우고 락 해제
+ * - 다른 인스턴스가 락을 보유 중이거나 Valkey 장애면 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchIndexService backfill 단위 테스트")
+class UserSearchIndexServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSearchGramRepository userSearchGramRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private UserSearchIndexService userSearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        CacheCircuitBreaker cacheCircuitBreaker = new CacheCircuitBreaker(new SimpleMeterRegistry(), 5, Duration.ofSeconds(30));
+        userSearchIndexService = new UserSearchIndexService(userRepository, userSearchGramRepository, transactionManager,
+            redisTemplate, new CacheKeyGenerator(), cacheCircuitBreaker);
+        ReflectionTestUtils.setField(userSearchIndexService, "backfillPageSize", 2);
+        ReflectionTestUtils.setField(userSearchIndexService, "backfillLockTtl", Duration.ofMinutes(5));
+
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 색인 없는 사용자를 페이지 단위로 채우고 페이지마다 락 연장 후 해제")
+    void backfill_withLock_indexesPagesAndReleases() {
+        // Given
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(true);
+        given(scriptingCommands.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+            .willReturn(1L);
+        given(userRepository.findUnindexedForSearch(anyLong(), any(Pageable.class)))
+            .willReturn(List.of(user(1L), user(2L)), List.of(user(5L)), List.of());
+
+        // When
+        userSearchIndexService.backfill();
+
+        // Then - 마지막 userId 이후부터 다음 페이지 조회 (이미 색인된 사용자는 쿼리에서 제외)
+        verify(userRepository).findUnindexedForSearch(eq(0L), any(Pageable.class));
+        verify(userRepository).findUnindexedForSearch(eq(2L), any(Pageable.class));
+        verify(userRepository).findUnindexedForSearch(eq(5L), any(Pageable.class));
+        verify(userSearchGramRepository, times(3)).saveAll(anyList());
+        // 페이지 2번 연장 + 해제 1번
+        verify(scriptingCommands, times(3)).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 보유 중이면 건너뜀")
+    void backfill_lockHeldElsewhere_skips() {
+        // Given
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(false);
+
+        // When
+        userSearchIndexService.backfill();
+
+        // Then
+        verifyNoInteractions(userRepository, userSearchGramRepository);
+        verify(scriptingCommands, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(), any(byte[][].class));
+    }
+
+    @Test
+    @DisplayName("Valkey 장애로 락을 잡을 수 없으면 건너뜀")
+    void backfill_valkeyDown_skips() {
+        // Given
+        willThrow(new RedisConnectionFailureException("connection refused"))
+            .given(redisTemplate).execute(any(RedisCallback.class));
+
+        // When
+        userSearchIndexService.backfill();
+
+        // Then
+        verifyNoInteractions(userRepository, userSearchGramRepository);
+    }
+
+    @Test
+    @DisplayName("락을 잃으면 남은 페이지를 처리하지 않음")
+    void backfill_lockLost_stops() {
+        // Given
+        given(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(SetOption.SET_IF_ABSENT)))
+            .willReturn(true);
+        given(scriptingCommands.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+            .willReturn(0L);
+        given(userRepository.findUnindexedForSearch(anyLong(), any(Pageable.class)))
+            .willReturn(List.of(user(1L), user(2L)));
+
+        // When
+        userSearchIndexService.backfill();
+
+        // Then
+        verify(userRepository, times(1)).findUnindexedForSearch(anyLong(), any(Pageable.class));
+    }
+
+    private static User user(Long userId) {
+        return User.builder()
+            .userId(userId)
+            .email("user" + userId + "@test.com")
+            .password("encoded")
+            .name("사용자" + userId)
+            .build();
+    }
+}
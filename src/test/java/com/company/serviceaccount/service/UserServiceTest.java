@@ -1,8 +1,20 @@
 package com.company.serviceaccount.service;
 
+import com.company.account.cache.CacheFillReads;
+import com.company.account.cache.NegativeLookupCache;
+import com.company.account.cache.NicknameAutocompleteIndex;
+import com.company.account.cache.UserCacheWriter;
 import com.company.account.entity.User;
+import com.company.account.dto.CursorPage;
+import com.company.account.dto.PublicProfileResponse;
 import com.company.account.dto.UserRequest;
+import com.company.account.dto.UserResponse;
 import com.company.account.repository.UserRepository;
+import com.company.account.service.CacheInvalidationService;
+import com.company.account.service.UserSearchIndexService;
+import com.company.account.util.CacheKeyGenerator;
+import com.company.account.util.CursorCodec;
+import com.company.account.util.NGramTokenizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,12 +23,20 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.*;
 
 /**
@@ -37,6 +57,24 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private CacheKeyGenerator cacheKeyGenerator;
+
+    @Mock
+    private UserCacheWriter userCacheWriter;
+
+    @Mock
+    private UserSearchIndexService userSearchIndexService;
+
+    @Mock
+    private NicknameAutocompleteIndex nicknameAutocompleteIndex;
+
     @InjectMocks
     private com.company.account.service.UserService userService;
 
@@ -85,6 +123,7 @@ class UserServiceTest {
         verify(userRepository, times(1)).existsByEmail(request.getEmail());
         verify(passwordEncoder, times(1)).encode(request.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(cacheInvalidationService, times(1)).invalidateNegativeLookups(1L, "test@example.com");
     }
 
     @Test
@@ -142,7 +181,7 @@ class UserServiceTest {
         // Arrange
         String email = "notfound@example.com";
 
-        given(userRepository.findByEmail(email))
+        given(userRepository.findResponseByEmail(email))
             .willReturn(Optional.empty());
 
         // Act & Assert
@@ -150,4 +189,150 @@ class UserServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("사용자를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자 조회 - tombstone 저장")
+    void getUserById_notFound_cachesTombstone() {
+        // Arrange
+        Long userId = 999L;
+        given(cacheKeyGenerator.userMissingKey(userId)).willReturn("user:missing:id:999");
+        given(negativeLookupCache.isMissing("user:missing:id:999")).willReturn(false);
+        given(userRepository.findResponseById(userId)).willReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.getUserById(userId))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("사용자를 찾을 수 없습니다");
+
+        verify(negativeLookupCache, times(1)).markMissing("user:missing:id:999");
+    }
+
+    @Test
+    @DisplayName("캐시를 채우는 사용자 조회 - DB 조회는 primary 라우팅 표시 안에서 수행")
+    void getUserById_loadsUnderCacheFillMarker() {
+        // Arrange
+        Long userId = 1L;
+        UserResponse response = UserResponse.builder().userId(userId).email("a@example.com").name("A").build();
+        List<Boolean> cacheFillActive = new ArrayList<>();
+        given(cacheKeyGenerator.userMissingKey(userId)).willReturn("user:missing:id:1");
+        given(negativeLookupCache.isMissing("user:missing:id:1")).willReturn(false);
+        given(userRepository.findResponseById(userId)).willAnswer(invocation -> {
+            cacheFillActive.add(CacheFillReads.isActive());
+            return Optional.of(response);
+        });
+
+        // Act
+        UserResponse result = userService.getUserById(userId);
+
+        // Assert
+        assertThat(result).isSameAs(response);
+        assertThat(cacheFillActive).containsExactly(true);
+        assertThat(CacheFillReads.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tombstone 이 있는 사용자 조회 - DB 조회 없이 예외 발생")
+    void getUserById_tombstoneHit_skipsRepository() {
+        // Arrange
+        Long userId = 999L;
+        given(cacheKeyGenerator.userMissingKey(userId)).willReturn("user:missing:id:999");
+        given(negativeLookupCache.isMissing("user:missing:id:999")).willReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.getUserById(userId))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("사용자를 찾을 수 없습니다");
+
+        verify(userRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    @DisplayName("공개 프로필 조회 - projection 결과만 반환 (엔티티 조회 없음)")
+    void getPublicProfile_returnsProjection() {
+        // Arrange
+        Long userId = 1L;
+        given(cacheKeyGenerator.userMissingKey(userId)).willReturn("user:missing:id:1");
+        given(negativeLookupCache.isMissing("user:missing:id:1")).willReturn(false);
+        given(userRepository.findPublicProfile(userId)).willReturn(Optional.of(
+            new PublicProfileResponse(userId, "판매자", "https://example.com/profile.png", 4.5)));
+
+        // Act
+        PublicProfileResponse response = userService.getPublicProfile(userId);
+
+        // Assert
+        assertThat(response.getNickname()).isEqualTo("판매자");
+        assertThat(response.getRating()).isEqualTo(4.5);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Cursor 검색 - size + 1 개 조회로 다음 페이지 판단, 마지막 행 위치를 cursor 로 반환")
+    void searchUsersWithCursor_returnsNextCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        List<UserResponse> rows = List.of(
+            UserResponse.builder().userId(3L).email("c@example.com").name("C").createdAt(createdAt).build(),
+            UserResponse.builder().userId(2L).email("b@example.com").name("B").createdAt(createdAt).build(),
+            UserResponse.builder().userId(1L).email("a@example.com").name("A").createdAt(createdAt.minusDays(1)).build());
+        given(userRepository.findUsersOnlyBefore(isNull(), isNull(), eq(User.UserRole.ADMIN), isNull(), isNull(), eq(3)))
+            .willReturn(rows);
+
+        // Act
+        CursorPage<UserResponse> page = userService.searchUsersWithCursor(null, null, 2, null);
+
+        // Assert
+        assertThat(page.getContent()).extracting(UserResponse::getUserId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        CursorCodec.Position next = CursorCodec.decode(page.getNextCursor());
+        assertThat(next.createdAt()).isEqualTo(createdAt);
+        assertThat(next.id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Cursor 검색 - 손상된 cursor 는 거부")
+    void searchUsersWithCursor_invalidCursor_throwsException() {
+        assertThatThrownBy(() -> userService.searchUsersWithCursor(null, null, 20, "not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("유효하지 않은 커서");
+
+        verify(userRepository, never()).findUsersOnlyBefore(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 정규화한 검색어의 2-gram 집합으로 색인 조회")
+    void searchUsersWithPagination_usesNGramIndex() {
+        // Arrange
+        Set<String> grams = NGramTokenizer.queryGrams("길동");
+        given(userRepository.searchUsersOnly(eq("길동"), eq(grams), eq(1L), eq(User.UserRole.ADMIN), any(Pageable.class)))
+            .willReturn(new PageImpl<>(List.of(
+                UserResponse.builder().userId(1L).email("hong@example.com").name("홍길동").build())));
+
+        // Act
+        Page<UserResponse> page = userService.searchUsersWithPagination(" 길동 ", null, 0, 20, "createdAt", "DESC");
+
+        // Assert
+        assertThat(page.getContent()).extracting(UserResponse::getName).containsExactly("홍길동");
+    }
+
+    @Test
+    @DisplayName("n-gram 분해 - 색인은 필드별 1/2-gram, 한 글자 검색어는 1-gram")
+    void nGramTokenizer_gramsPerField() {
+        Set<String> indexed = NGramTokenizer.indexGrams("AB", "c");
+
+        assertThat(indexed).containsExactlyInAnyOrder("61", "61.62", "62", "63");
+        assertThat(indexed).doesNotContain("62.63");
+        assertThat(NGramTokenizer.queryGrams("B")).containsExactly("62");
+        assertThat(NGramTokenizer.queryGrams("abc")).containsExactly("61.62", "62.63");
+    }
+
+    @Test
+    @DisplayName("닉네임 자동완성 - 빈 prefix 나 허용 범위를 넘는 limit 은 색인 조회 없이 거부")
+    void suggestNicknames_invalidRequest_throwsException() {
+        assertThatThrownBy(() -> userService.suggestNicknames(" ", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userService.suggestNicknames("홍", 21))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verify(nicknameAutocompleteIndex, never()).suggest(any(), anyInt());
+    }
 }